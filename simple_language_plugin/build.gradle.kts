@@ -6,6 +6,7 @@ import org.jetbrains.intellij.platform.gradle.models.ProductRelease.Channel.RELE
 
 plugins {
   id("java")
+  id("org.jetbrains.kotlin.jvm") version "2.0.21"
   id("org.jetbrains.intellij.platform") version "2.10.4"
 }
 
@@ -21,6 +22,18 @@ sourceSets {
   }
 }
 
+// JMH benchmarks in src/jmh/java, compiled against the plugin classes and the IntelliJ Platform
+val jmh: SourceSet by sourceSets.creating {
+  compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+  runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+// Share the synthetic corpora of the benchmarks with the parser performance tests
+sourceSets.test {
+  compileClasspath += jmh.output
+  runtimeClasspath += jmh.output
+}
+
 repositories {
   mavenCentral()
 
@@ -35,12 +48,38 @@ dependencies {
     bundledPlugin("com.intellij.java")
 
     testFramework(TestFrameworkType.Plugin.Java)
+    testFramework(TestFrameworkType.Metrics)
   }
 
   testImplementation("junit:junit:4.13.2")
   // workaround for <2024.3
   // https://plugins.jetbrains.com/docs/intellij/tools-intellij-platform-gradle-plugin-faq.html#missing-opentest4j-dependency-in-test-framework
   testImplementation("org.opentest4j:opentest4j:1.3.0")
+
+  "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+  "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+// The 50 MB parsing test needs a large heap and raised file size limits, run it with -PlargeParsingTest
+tasks.test {
+  if (providers.gradleProperty("largeParsingTest").isPresent) {
+    maxHeapSize = "4g"
+    systemProperty("idea.max.content.load.filesize", "102400")
+    systemProperty("idea.max.intellisense.filesize", "102400")
+  } else {
+    filter {
+      excludeTestsMatching("org.intellij.sdk.language.SimpleParsingTest.testParsingPerformance50MB")
+    }
+  }
+}
+
+// Run with `./gradlew jmh`, JMH options can be passed with -PjmhArgs="-prof gc SimpleLexerBenchmark"
+tasks.register<JavaExec>("jmh") {
+  description = "Runs the JMH benchmarks."
+  group = "verification"
+  classpath = jmh.runtimeClasspath
+  mainClass = "org.openjdk.jmh.Main"
+  args(providers.gradleProperty("jmhArgs").getOrElse("").split(" ").filter { it.isNotBlank() })
 }
 
 intellijPlatform {
@@ -0,0 +1,97 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Random;
+
+/**
+ * Synthetic Simple files used by the benchmarks. Generation is deterministic, so runs can be compared.
+ */
+public enum SimpleCorpus {
+
+  /**
+   * Many short single-line properties.
+   */
+  SHORT_PROPERTIES {
+    @Override
+    void appendEntry(@NotNull StringBuilder sb, int index, @NotNull Random random) {
+      sb.append("key").append(index).append(" = value").append(random.nextInt(1000)).append('\n');
+    }
+  },
+
+  /**
+   * Long values continued over several lines with a trailing backslash.
+   */
+  MULTI_LINE_VALUES {
+    @Override
+    void appendEntry(@NotNull StringBuilder sb, int index, @NotNull Random random) {
+      sb.append("message").append(index).append(" = Welcome to the generated message number ").append(index);
+      int lines = 1 + random.nextInt(5);
+      for (int i = 0; i < lines; i++) {
+        sb.append(" \\\n          and this is continuation line ").append(i).append(" of a rather long value");
+      }
+      sb.append('\n');
+    }
+  },
+
+  /**
+   * Files made mostly of comments, with a property every few lines.
+   */
+  COMMENTS {
+    @Override
+    void appendEntry(@NotNull StringBuilder sb, int index, @NotNull Random random) {
+      int lines = 2 + random.nextInt(4);
+      for (int i = 0; i < lines; i++) {
+        sb.append(i % 2 == 0 ? "# " : "! ").append("Comment line ").append(i).append(" describing entry ")
+            .append(index).append('\n');
+      }
+      sb.append("documented").append(index).append(" : value\n");
+    }
+  },
+
+  /**
+   * Malformed entries that make the parser go through the error recovery of the 'property' rule.
+   */
+  BROKEN_PROPERTIES {
+    @Override
+    void appendEntry(@NotNull StringBuilder sb, int index, @NotNull Random random) {
+      switch (random.nextInt(4)) {
+        case 0 -> sb.append("broken").append(index).append("\\\ncontinued").append(index).append(" = value\n");
+        case 1 -> sb.append("= value without key ").append(index).append('\n');
+        case 2 -> sb.append("lonely").append(index).append('\n');
+        default -> sb.append("valid").append(index).append(" = value ").append(index).append('\n');
+      }
+    }
+  },
+
+  /**
+   * Non-ASCII keys and values, escaped spaces in keys and unicode escapes in values.
+   */
+  UNICODE_KEYS {
+    private static final String[] WORDS = {"ключ", "鍵", "clé", "Schlüssel", "κλειδί", "مفتاح"};
+
+    @Override
+    void appendEntry(@NotNull StringBuilder sb, int index, @NotNull Random random) {
+      String word = WORDS[random.nextInt(WORDS.length)];
+      sb.append(word).append("\\ ").append(word).append(index)
+          .append(" = ").append(word).append(" \\u00e9\\u4e2d ").append(index).append('\n');
+    }
+  };
+
+  abstract void appendEntry(@NotNull StringBuilder sb, int index, @NotNull Random random);
+
+  /**
+   * @param length approximate number of characters to generate
+   */
+  public @NotNull String generate(int length) {
+    StringBuilder sb = new StringBuilder(length + 256);
+    Random random = new Random(42);
+    for (int index = 0; sb.length() < length; index++) {
+      appendEntry(sb, index, random);
+    }
+    return sb.toString();
+  }
+
+}
@@ -0,0 +1,64 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import org.intellij.sdk.language.psi.SimpleTypes;
+import org.intellij.sdk.language.psi.impl.SimplePsiImplUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link SimplePsiImplUtil#unescapeKey} with the regex replacement it superseded,
+ * on all keys of a synthetic Simple file.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rate ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleKeyUnescapeBenchmark {
+
+  @Param({"SHORT_PROPERTIES", "UNICODE_KEYS"})
+  public SimpleCorpus corpus;
+
+  @Param({"100000"})
+  public int length;
+
+  private String[] keys;
+
+  @Setup
+  public void setUp() {
+    List<String> result = new ArrayList<>();
+    SimpleLexerAdapter lexer = new SimpleLexerAdapter();
+    lexer.start(corpus.generate(length));
+    while (lexer.getTokenType() != null) {
+      if (lexer.getTokenType() == SimpleTypes.KEY) {
+        result.add(lexer.getTokenText());
+      }
+      lexer.advance();
+    }
+    keys = result.toArray(new String[0]);
+  }
+
+  @Benchmark
+  public void replaceAll(Blackhole blackhole) {
+    for (String key : keys) {
+      blackhole.consume(key.replaceAll("\\\\ ", " "));
+    }
+  }
+
+  @Benchmark
+  public void unescapeKey(Blackhole blackhole) {
+    for (String key : keys) {
+      blackhole.consume(SimplePsiImplUtil.unescapeKey(key));
+    }
+  }
+
+}
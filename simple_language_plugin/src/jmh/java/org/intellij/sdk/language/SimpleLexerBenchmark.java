@@ -0,0 +1,68 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast {@link SimpleLexerAdapter} tokenizes synthetic Simple files.
+ * <p>
+ * Besides the number of complete passes per second, the {@link Counters} report tokens/sec and bytes/sec.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleLexerBenchmark {
+
+  @Param({"SHORT_PROPERTIES", "MULTI_LINE_VALUES", "COMMENTS", "UNICODE_KEYS"})
+  public SimpleCorpus corpus;
+
+  @Param({"1000000"})
+  public int length;
+
+  private String text;
+  private int bytes;
+  private SimpleLexerAdapter lexer;
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class Counters {
+
+    public long tokens;
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      tokens = 0;
+      bytes = 0;
+    }
+
+  }
+
+  @Setup
+  public void setUp() {
+    text = corpus.generate(length);
+    bytes = text.getBytes(StandardCharsets.UTF_8).length;
+    lexer = new SimpleLexerAdapter();
+  }
+
+  @Benchmark
+  public int tokenize(Counters counters) {
+    lexer.start(text);
+    int tokens = 0;
+    while (lexer.getTokenType() != null) {
+      tokens++;
+      lexer.advance();
+    }
+    counters.tokens += tokens;
+    counters.bytes += bytes;
+    return tokens;
+  }
+
+}
@@ -3,14 +3,17 @@ package org.intellij.sdk.language.psi;
 
 import com.intellij.navigation.ItemPresentation;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.StubBasedPsiElement;
 import org.jetbrains.annotations.NotNull;
 
-public interface SimpleProperty extends SimpleNamedElement {
+public interface SimpleProperty extends SimpleNamedElement, StubBasedPsiElement<SimplePropertyStub> {
 
   String getKey();
 
   String getValue();
 
+  String getDecodedValue();
+
   String getName();
 
   PsiElement setName(@NotNull String newName);
@@ -8,7 +8,7 @@ import org.intellij.sdk.language.psi.impl.*;
 
 public interface SimpleTypes {
 
-  IElementType PROPERTY = new SimpleElementType("PROPERTY");
+  IElementType PROPERTY = new SimplePropertyElementType("PROPERTY");
 
   IElementType COMMENT = new SimpleTokenType("COMMENT");
   IElementType CRLF = new SimpleTokenType("CRLF");
@@ -5,7 +5,9 @@ import com.intellij.lang.ASTNode;
 import com.intellij.navigation.ItemPresentation;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.stubs.IStubElementType;
 import org.intellij.sdk.language.psi.SimpleProperty;
+import org.intellij.sdk.language.psi.SimplePropertyStub;
 import org.intellij.sdk.language.psi.SimpleVisitor;
 import org.jetbrains.annotations.NotNull;
 
@@ -15,6 +17,10 @@ public class SimplePropertyImpl extends SimpleNamedElementImpl implements Simple
     super(node);
   }
 
+  public SimplePropertyImpl(@NotNull SimplePropertyStub stub, @NotNull IStubElementType<?, ?> type) {
+    super(stub, type);
+  }
+
   public void accept(@NotNull SimpleVisitor visitor) {
     visitor.visitProperty(this);
   }
@@ -35,6 +41,11 @@ public class SimplePropertyImpl extends SimpleNamedElementImpl implements Simple
     return SimplePsiImplUtil.getValue(this);
   }
 
+  @Override
+  public String getDecodedValue() {
+    return SimplePsiImplUtil.getDecodedValue(this);
+  }
+
   @Override
   public String getName() {
     return SimplePsiImplUtil.getName(this);
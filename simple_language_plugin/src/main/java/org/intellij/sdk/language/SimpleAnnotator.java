@@ -2,20 +2,20 @@
 
 package org.intellij.sdk.language;
 
-import com.intellij.codeInspection.ProblemHighlightType;
 import com.intellij.lang.annotation.AnnotationHolder;
 import com.intellij.lang.annotation.Annotator;
 import com.intellij.lang.annotation.HighlightSeverity;
 import com.intellij.openapi.editor.DefaultLanguageHighlighterColors;
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiLiteralExpression;
-import org.intellij.sdk.language.psi.SimpleProperty;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-
-final class SimpleAnnotator implements Annotator {
+/**
+ * Only looks at the literal itself, so it also runs while indexes are being built.
+ */
+final class SimpleAnnotator implements Annotator, DumbAware {
 
   // Define strings for the Simple language prefix - used for annotations, line markers, etc.
   public static final String SIMPLE_PREFIX_STR = "simple";
@@ -39,7 +39,6 @@ final class SimpleAnnotator implements Annotator {
     //  01234567890
     TextRange prefixRange = TextRange.from(element.getTextRange().getStartOffset(), SIMPLE_PREFIX_STR.length() + 1);
     TextRange separatorRange = TextRange.from(prefixRange.getEndOffset(), SIMPLE_SEPARATOR_STR.length());
-    TextRange keyRange = new TextRange(separatorRange.getEndOffset(), element.getTextRange().getEndOffset() - 1);
 
     // highlight "simple" prefix and ":" separator
     holder.newSilentAnnotation(HighlightSeverity.INFORMATION)
@@ -47,22 +46,7 @@ final class SimpleAnnotator implements Annotator {
     holder.newSilentAnnotation(HighlightSeverity.INFORMATION)
         .range(separatorRange).textAttributes(SimpleSyntaxHighlighter.SEPARATOR).create();
 
-
-    // Get the list of properties for given key
-    String key = value.substring(SIMPLE_PREFIX_STR.length() + SIMPLE_SEPARATOR_STR.length());
-    List<SimpleProperty> properties = SimpleUtil.findProperties(element.getProject(), key);
-    if (properties.isEmpty()) {
-      holder.newAnnotation(HighlightSeverity.ERROR, "Unresolved property")
-          .range(keyRange)
-          .highlightType(ProblemHighlightType.LIKE_UNKNOWN_SYMBOL)
-          // ** Tutorial step 19. - Add a quick fix for the string containing possible properties
-          .withFix(new SimpleCreatePropertyQuickFix(key))
-          .create();
-    } else {
-      // Found at least one property, force the text attributes to Simple syntax value character
-      holder.newSilentAnnotation(HighlightSeverity.INFORMATION)
-          .range(keyRange).textAttributes(SimpleSyntaxHighlighter.VALUE).create();
-    }
+    // The key itself is resolved for the whole file at once in SimpleKeyExternalAnnotator
   }
 
 }
@@ -4,39 +4,64 @@ package org.intellij.sdk.language;
 
 import com.intellij.navigation.ChooseByNameContributorEx;
 import com.intellij.navigation.NavigationItem;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StubIndex;
 import com.intellij.util.Processor;
-import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.FileBasedIndex;
 import com.intellij.util.indexing.FindSymbolParameters;
 import com.intellij.util.indexing.IdFilter;
 import org.intellij.sdk.language.psi.SimpleProperty;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-import java.util.Objects;
-
-final class SimpleChooseByNameContributor implements ChooseByNameContributorEx {
+/**
+ * Both names and elements are streamed from {@link SimpleKeyIndex}, honouring the {@link IdFilter} of the request.
+ * Keys of files too large to get PSI come from {@link SimpleLargeFileKeyIndex}.
+ * While indexes are being built, the open and recently edited files are served by {@link SimpleDumbModeKeyTable}.
+ */
+final class SimpleChooseByNameContributor implements ChooseByNameContributorEx, DumbAware {
 
   @Override
   public void processNames(@NotNull Processor<? super String> processor,
                            @NotNull GlobalSearchScope scope,
                            @Nullable IdFilter filter) {
-    Project project = Objects.requireNonNull(scope.getProject());
-    List<String> propertyKeys = ContainerUtil.map(
-        SimpleUtil.findProperties(project), SimpleProperty::getKey);
-    ContainerUtil.process(propertyKeys, processor);
+    Project project = scope.getProject();
+    if (project != null && DumbService.isDumb(project)) {
+      for (String key : SimpleDumbModeKeyTable.getInstance(project).getDefinitions().keySet()) {
+        if (!processor.process(key)) {
+          return;
+        }
+      }
+      return;
+    }
+    if (StubIndex.getInstance().processAllKeys(SimpleKeyIndex.KEY, processor, scope, filter)) {
+      FileBasedIndex.getInstance().processAllKeys(SimpleLargeFileKeyIndex.NAME, processor, scope, filter);
+    }
   }
 
   @Override
   public void processElementsWithName(@NotNull String name,
                                       @NotNull Processor<? super NavigationItem> processor,
                                       @NotNull FindSymbolParameters parameters) {
-    List<NavigationItem> properties = ContainerUtil.map(
-        SimpleUtil.findProperties(parameters.getProject(), name),
-        property -> (NavigationItem) property);
-    ContainerUtil.process(properties, processor);
+    Project project = parameters.getProject();
+    if (DumbService.isDumb(project)) {
+      SimpleDumbModeKeyTable.Definition definition = SimpleDumbModeKeyTable.getInstance(project).getDefinition(name);
+      if (definition != null && parameters.getSearchScope().contains(definition.file())) {
+        processor.process(new SimpleLargeFileProperty(project, definition.file(), name, definition.offset()));
+      }
+      return;
+    }
+    boolean proceed = StubIndex.getInstance().processElements(SimpleKeyIndex.KEY, name, parameters.getProject(),
+        parameters.getSearchScope(), parameters.getIdFilter(), SimpleProperty.class,
+        property -> processor.process((NavigationItem) property));
+    if (proceed) {
+      FileBasedIndex.getInstance().processValues(SimpleLargeFileKeyIndex.NAME, name, null,
+          (file, offset) -> processor.process(new SimpleLargeFileProperty(parameters.getProject(), file, name, offset)),
+          parameters.getSearchScope(), parameters.getIdFilter());
+    }
   }
 
 }
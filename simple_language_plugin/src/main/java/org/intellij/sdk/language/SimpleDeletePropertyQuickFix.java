@@ -0,0 +1,99 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.codeInspection.BatchQuickFix;
+import com.intellij.codeInspection.CommonProblemDescriptor;
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiWhiteSpace;
+import com.intellij.psi.impl.source.tree.LeafPsiElement;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.intellij.sdk.language.psi.SimpleProperty;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Deletes a Simple property together with its line break.
+ * <p>
+ * When applied to many problems at once, the properties are grouped by file and all files are changed
+ * in a single command.
+ */
+final class SimpleDeletePropertyQuickFix implements LocalQuickFix, BatchQuickFix {
+
+  @Override
+  public @NotNull String getFamilyName() {
+    return "Delete property";
+  }
+
+  @Override
+  public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+    SimpleProperty property = getProperty(descriptor);
+    if (property != null) {
+      deleteProperty(property);
+    }
+  }
+
+  @Override
+  public void applyFix(@NotNull Project project,
+                       CommonProblemDescriptor @NotNull [] descriptors,
+                       @NotNull List<PsiElement> psiElementsToIgnore,
+                       @Nullable Runnable refreshViews) {
+    Map<PsiFile, List<SimpleProperty>> propertiesByFile = new LinkedHashMap<>();
+    for (CommonProblemDescriptor descriptor : descriptors) {
+      SimpleProperty property = getProperty(descriptor);
+      if (property != null) {
+        propertiesByFile.computeIfAbsent(property.getContainingFile(), file -> new ArrayList<>()).add(property);
+      }
+    }
+    if (propertiesByFile.isEmpty()) {
+      return;
+    }
+    WriteCommandAction.writeCommandAction(project, propertiesByFile.keySet()).withName(getFamilyName()).run(() -> {
+      for (List<SimpleProperty> properties : propertiesByFile.values()) {
+        for (SimpleProperty property : properties) {
+          if (property.isValid()) {
+            deleteProperty(property);
+          }
+        }
+      }
+    });
+    if (refreshViews != null) {
+      refreshViews.run();
+    }
+  }
+
+  private static @Nullable SimpleProperty getProperty(CommonProblemDescriptor descriptor) {
+    if (!(descriptor instanceof ProblemDescriptor problemDescriptor)) {
+      return null;
+    }
+    return PsiTreeUtil.getParentOfType(problemDescriptor.getPsiElement(), SimpleProperty.class, false);
+  }
+
+  /**
+   * The lexer returns line breaks as white space, possibly merged with the indent and blank lines that follow.
+   * Only the white space up to and including the first line break is removed with the property.
+   */
+  private static void deleteProperty(SimpleProperty property) {
+    PsiElement next = property.getNextSibling();
+    if (next instanceof PsiWhiteSpace whiteSpace) {
+      String text = whiteSpace.getText();
+      int lineBreak = text.indexOf('\n');
+      if (lineBreak == text.length() - 1) {
+        property.getParent().deleteChildRange(property, whiteSpace);
+        return;
+      }
+      if (lineBreak >= 0) {
+        ((LeafPsiElement) whiteSpace).replaceWithText(text.substring(lineBreak + 1));
+      }
+    }
+    property.delete();
+  }
+
+}
@@ -36,7 +36,7 @@ final class SimpleDocumentationProvider extends AbstractDocumentationProvider {
   public @Nullable String generateDoc(PsiElement element, @Nullable PsiElement originalElement) {
     if (element instanceof SimpleProperty) {
       final String key = ((SimpleProperty) element).getKey();
-      final String value = ((SimpleProperty) element).getValue();
+      final String value = ((SimpleProperty) element).getDecodedValue();
       final String file = SymbolPresentationUtil.getFilePathPresentation(element.getContainingFile());
       final String docComment = SimpleUtil.findDocumentationComment((SimpleProperty) element);
 
@@ -0,0 +1,170 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.fileEditor.ex.IdeDocumentHistory;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.SingleRootFileViewProvider;
+import com.intellij.psi.tree.IElementType;
+import org.intellij.sdk.language.psi.SimpleTypes;
+import org.intellij.sdk.language.psi.impl.SimplePsiImplUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Keys of the open and recently edited Simple files, for features that keep working while indexes are not ready.
+ * <p>
+ * Files are scanned with {@link SimpleLexerAdapter} only, and rescanned when their document changes. The table is
+ * bounded by {@link #MAX_FILES} files of at most {@link #MAX_KEYS_PER_FILE} keys, keeps only a prefix of each value,
+ * and is discarded as soon as the project leaves dumb mode.
+ */
+@Service(Service.Level.PROJECT)
+public final class SimpleDumbModeKeyTable implements Disposable {
+
+  static final int MAX_FILES = 20;
+  static final int MAX_KEYS_PER_FILE = 5_000;
+  static final int MAX_VALUE_LENGTH = 100;
+
+  /**
+   * A key definition found by the lexer.
+   *
+   * @param value prefix of the raw value text, or {@code null} for a property without value
+   */
+  public record Definition(@NotNull VirtualFile file, int offset, @Nullable String value) {
+  }
+
+  private record ScannedFile(long modificationStamp, @NotNull Map<String, Definition> definitions) {
+  }
+
+  private final Project myProject;
+  private final Map<VirtualFile, ScannedFile> myScannedFiles = new HashMap<>();
+
+  public SimpleDumbModeKeyTable(@NotNull Project project) {
+    myProject = project;
+    project.getMessageBus().connect(this).subscribe(DumbService.DUMB_MODE, new DumbService.DumbModeListener() {
+      @Override
+      public void exitDumbMode() {
+        clear();
+      }
+    });
+  }
+
+  public static SimpleDumbModeKeyTable getInstance(@NotNull Project project) {
+    return project.getService(SimpleDumbModeKeyTable.class);
+  }
+
+  /**
+   * @return the first definition of every key found in the open and recently edited Simple files
+   */
+  public @NotNull Map<String, Definition> getDefinitions() {
+    Map<String, Definition> result = new LinkedHashMap<>();
+    for (ScannedFile scannedFile : getScannedFiles()) {
+      for (Map.Entry<String, Definition> entry : scannedFile.definitions().entrySet()) {
+        result.putIfAbsent(entry.getKey(), entry.getValue());
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * @return the first definition of the key, looked up file by file without merging the tables
+   */
+  public @Nullable Definition getDefinition(@NotNull String key) {
+    for (ScannedFile scannedFile : getScannedFiles()) {
+      Definition definition = scannedFile.definitions().get(key);
+      if (definition != null) {
+        return definition;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the scanned candidate files in lookup order, rescanning the ones whose document changed
+   */
+  private synchronized @NotNull List<ScannedFile> getScannedFiles() {
+    Set<VirtualFile> files = getCandidateFiles();
+    myScannedFiles.keySet().retainAll(files);
+
+    List<ScannedFile> result = new ArrayList<>(files.size());
+    for (VirtualFile file : files) {
+      ProgressManager.checkCanceled();
+      Document document = FileDocumentManager.getInstance().getDocument(file);
+      if (document == null) {
+        continue;
+      }
+      ScannedFile scannedFile = myScannedFiles.get(file);
+      if (scannedFile == null || scannedFile.modificationStamp() != document.getModificationStamp()) {
+        scannedFile = new ScannedFile(document.getModificationStamp(),
+            scan(file, document.getImmutableCharSequence(), MAX_KEYS_PER_FILE));
+        myScannedFiles.put(file, scannedFile);
+      }
+      result.add(scannedFile);
+    }
+    return result;
+  }
+
+  synchronized void clear() {
+    myScannedFiles.clear();
+  }
+
+  private @NotNull Set<VirtualFile> getCandidateFiles() {
+    Set<VirtualFile> files = new LinkedHashSet<>();
+    List<VirtualFile> candidates = new ArrayList<>(Arrays.asList(FileEditorManager.getInstance(myProject).getOpenFiles()));
+    candidates.addAll(IdeDocumentHistory.getInstance(myProject).getChangedFiles());
+    for (VirtualFile file : candidates) {
+      if (files.size() >= MAX_FILES) {
+        break;
+      }
+      if (file.isValid() && file.getFileType() == SimpleFileType.INSTANCE &&
+          !SingleRootFileViewProvider.isTooLargeForIntelligence(file)) {
+        files.add(file);
+      }
+    }
+    return files;
+  }
+
+  static @NotNull Map<String, Definition> scan(@NotNull VirtualFile file, @NotNull CharSequence text, int maxKeys) {
+    Map<String, Definition> result = new LinkedHashMap<>();
+    Lexer lexer = new SimpleLexerAdapter();
+    lexer.start(text);
+    String key = null;
+    int keyOffset = 0;
+    while (lexer.getTokenType() != null && result.size() < maxKeys) {
+      IElementType tokenType = lexer.getTokenType();
+      if (tokenType == SimpleTypes.KEY) {
+        if (key != null) {
+          result.putIfAbsent(key, new Definition(file, keyOffset, null));
+        }
+        key = SimplePsiImplUtil.unescapeKey(lexer.getTokenText());
+        keyOffset = lexer.getTokenStart();
+      } else if (tokenType == SimpleTypes.VALUE && key != null) {
+        String value = StringUtil.first(lexer.getTokenSequence(), MAX_VALUE_LENGTH, false).toString();
+        result.putIfAbsent(key, new Definition(file, keyOffset, value));
+        key = null;
+      }
+      lexer.advance();
+    }
+    if (key != null && result.size() < maxKeys) {
+      result.putIfAbsent(key, new Definition(file, keyOffset, null));
+    }
+    return result;
+  }
+
+  @Override
+  public void dispose() {
+  }
+
+}
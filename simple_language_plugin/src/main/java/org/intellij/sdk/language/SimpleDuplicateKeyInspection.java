@@ -0,0 +1,83 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.codeInspection.options.OptPane;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.intellij.sdk.language.psi.SimpleFile;
+import org.intellij.sdk.language.psi.SimpleProperty;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.intellij.codeInspection.options.OptPane.checkbox;
+
+/**
+ * Reports Simple properties whose key is defined more than once.
+ * <p>
+ * The properties of a file are grouped by key in a single pass. Keys are read from stubs, so the check doesn't
+ * need the AST. Definitions in other files are optionally found with one {@link SimpleKeyIndex} lookup per key.
+ */
+final class SimpleDuplicateKeyInspection extends LocalInspectionTool {
+
+  public boolean checkOtherFiles = false;
+
+  @Override
+  public @NotNull OptPane getOptionsPane() {
+    return OptPane.pane(checkbox("checkOtherFiles", "Report keys also defined in other files"));
+  }
+
+  @Override
+  public ProblemDescriptor @NotNull [] checkFile(@NotNull PsiFile file,
+                                                 @NotNull InspectionManager manager,
+                                                 boolean isOnTheFly) {
+    if (!(file instanceof SimpleFile)) {
+      return ProblemDescriptor.EMPTY_ARRAY;
+    }
+    Map<String, List<SimpleProperty>> propertiesByKey = new HashMap<>();
+    for (SimpleProperty property : PsiTreeUtil.getStubChildrenOfTypeAsList(file, SimpleProperty.class)) {
+      String key = property.getKey();
+      if (key != null) {
+        propertiesByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(property);
+      }
+    }
+
+    ProblemsHolder holder = new ProblemsHolder(manager, file, isOnTheFly);
+    for (Map.Entry<String, List<SimpleProperty>> entry : propertiesByKey.entrySet()) {
+      List<SimpleProperty> properties = entry.getValue();
+      if (properties.size() > 1) {
+        for (SimpleProperty property : properties) {
+          registerProblem(holder, property, "Duplicate key '" + entry.getKey() + "'");
+        }
+      } else if (checkOtherFiles && isDefinedInOtherFile(file, entry.getKey())) {
+        registerProblem(holder, properties.get(0), "Key '" + entry.getKey() + "' is also defined in another file");
+      }
+    }
+    return holder.getResultsArray();
+  }
+
+  private static boolean isDefinedInOtherFile(PsiFile file, String key) {
+    Project project = file.getProject();
+    return !StubIndex.getInstance().processElements(SimpleKeyIndex.KEY, key, project,
+        GlobalSearchScope.projectScope(project), SimpleProperty.class,
+        property -> file.equals(property.getContainingFile()));
+  }
+
+  private static void registerProblem(ProblemsHolder holder, SimpleProperty property, String message) {
+    PsiElement nameIdentifier = property.getNameIdentifier();
+    holder.registerProblem(nameIdentifier != null ? nameIdentifier : property, message);
+  }
+
+}
@@ -0,0 +1,102 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.fileEditor.OpenFileDescriptor;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.ui.popup.IPopupChooserBuilder;
+import com.intellij.openapi.ui.popup.JBPopupFactory;
+import com.intellij.openapi.util.ThrowableComputable;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.ui.SimpleListCellRenderer;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Asks for a piece of value text and lists the Simple keys whose value contains it.
+ */
+final class SimpleFindKeysByValueAction extends AnAction {
+
+  private static final String TITLE = "Find Simple Keys by Value";
+  private static final int MAX_RESULTS = 1000;
+  private static final Comparator<SimpleValueSearch.Match> BY_KEY =
+      (m1, m2) -> m1.key().compareToIgnoreCase(m2.key());
+
+  @Override
+  public @NotNull ActionUpdateThread getActionUpdateThread() {
+    return ActionUpdateThread.BGT;
+  }
+
+  @Override
+  public void update(@NotNull AnActionEvent e) {
+    Project project = e.getProject();
+    e.getPresentation().setEnabled(project != null && !DumbService.isDumb(project));
+  }
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent e) {
+    Project project = e.getProject();
+    if (project == null) {
+      return;
+    }
+    String query = Messages.showInputDialog(project, "Value text:", TITLE, SimpleIcons.FILE);
+    if (query == null) {
+      return;
+    }
+    if (query.length() < SimpleValueSearch.MIN_QUERY_LENGTH) {
+      Messages.showInfoMessage(project,
+          "Enter at least " + SimpleValueSearch.MIN_QUERY_LENGTH + " characters of the value.", TITLE);
+      return;
+    }
+    // the read action is restarted on every write action, so the search never blocks typing elsewhere in the IDE
+    List<SimpleValueSearch.Match> matches = ProgressManager.getInstance().runProcessWithProgressSynchronously(
+        (ThrowableComputable<List<SimpleValueSearch.Match>, RuntimeException>) () ->
+            ReadAction.nonBlocking(() -> findMatches(project, query))
+                .wrapProgress(ProgressManager.getInstance().getProgressIndicator())
+                .executeSynchronously(),
+        "Searching Simple values", true, project);
+    if (matches.isEmpty()) {
+      Messages.showInfoMessage(project, "No Simple values contain '" + query + "'.", TITLE);
+      return;
+    }
+    boolean truncated = matches.size() > MAX_RESULTS;
+    if (truncated) {
+      matches = matches.subList(0, MAX_RESULTS);
+    }
+    IPopupChooserBuilder<SimpleValueSearch.Match> builder = JBPopupFactory.getInstance()
+        .createPopupChooserBuilder(ContainerUtil.sorted(matches, BY_KEY))
+        .setTitle("Keys with Value '" + query + "'")
+        .setRenderer(SimpleListCellRenderer.<SimpleValueSearch.Match>create((label, match, index) -> {
+          label.setIcon(SimpleIcons.FILE);
+          label.setText(match.key() + " = " + match.value() + "  (" + match.file().getName() + ")");
+        }))
+        .setNamerForFiltering(SimpleValueSearch.Match::key)
+        .setItemChosenCallback(match -> new OpenFileDescriptor(project, match.file(), match.offset()).navigate(true));
+    if (truncated) {
+      builder.setAdText("Only the first " + MAX_RESULTS + " matches are shown, refine the value text");
+    }
+    builder.createPopup().showCenteredInCurrentWindow(project);
+  }
+
+  /**
+   * @return up to one match more than {@link #MAX_RESULTS}, so that a truncated result can be told apart
+   */
+  private static @NotNull List<SimpleValueSearch.Match> findMatches(@NotNull Project project, @NotNull String query) {
+    List<SimpleValueSearch.Match> matches = new ArrayList<>();
+    SimpleValueSearch.processMatches(project, query, GlobalSearchScope.allScope(project),
+        match -> matches.add(match) && matches.size() <= MAX_RESULTS);
+    return matches;
+  }
+
+}
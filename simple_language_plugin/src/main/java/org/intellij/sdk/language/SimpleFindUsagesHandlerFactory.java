@@ -0,0 +1,62 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.find.findUsages.FindUsagesHandler;
+import com.intellij.find.findUsages.FindUsagesHandlerFactory;
+import com.intellij.find.findUsages.FindUsagesOptions;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.usageView.UsageInfo;
+import com.intellij.util.Processor;
+import org.intellij.sdk.language.psi.SimpleProperty;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Finds usages of Simple properties through {@link SimpleUsageIndex} instead of the word index,
+ * so only Java files that actually reference the key are loaded.
+ */
+final class SimpleFindUsagesHandlerFactory extends FindUsagesHandlerFactory {
+
+  @Override
+  public boolean canFindUsages(@NotNull PsiElement element) {
+    return element instanceof SimpleProperty;
+  }
+
+  @Override
+  public @Nullable FindUsagesHandler createFindUsagesHandler(@NotNull PsiElement element, boolean forHighlightUsages) {
+    return forHighlightUsages ? null : new SimpleFindUsagesHandler(element);
+  }
+
+  private static final class SimpleFindUsagesHandler extends FindUsagesHandler {
+
+    private SimpleFindUsagesHandler(@NotNull PsiElement element) {
+      super(element);
+    }
+
+    @Override
+    public boolean processElementUsages(@NotNull PsiElement element,
+                                        @NotNull Processor<? super UsageInfo> processor,
+                                        @NotNull FindUsagesOptions options) {
+      if (!(options.searchScope instanceof GlobalSearchScope scope)) {
+        return super.processElementUsages(element, processor, options);
+      }
+      List<PsiReference> references = ReadAction.compute(() ->
+          SimpleUtil.findReferences(element.getProject(), ((SimpleProperty) element).getKey(), scope));
+      for (PsiReference reference : references) {
+        UsageInfo usageInfo = ReadAction.compute(() -> new UsageInfo(reference));
+        if (!processor.process(usageInfo)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+  }
+
+}
@@ -8,24 +8,46 @@ import com.intellij.lang.folding.FoldingDescriptor;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.FoldingGroup;
 import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.psi.JavaRecursiveElementWalkingVisitor;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.PsiLiteralUtil;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.util.containers.ContainerUtil;
 import org.intellij.sdk.language.psi.SimpleProperty;
+import org.intellij.sdk.language.psi.SimplePropertyStub;
+import org.intellij.sdk.language.psi.impl.SimplePropertyElementType;
+import org.intellij.sdk.language.psi.impl.SimplePsiImplUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 final class SimpleFoldingBuilder extends FoldingBuilderEx implements DumbAware {
 
+  /**
+   * Placeholder texts by property key, shared by all Java files of the project and dropped on any Simple change.
+   * Placeholders computed while indexes are not ready are dropped when dumb mode ends.
+   */
+  private static final Key<CachedValue<Map<String, String>>> PLACEHOLDERS = Key.create("simple.folding.placeholders");
+
+  /**
+   * Marks keys that don't resolve to exactly one property and therefore get no folding region.
+   */
+  private static final String NO_PLACEHOLDER = "";
+
   @Override
   public FoldingDescriptor @NotNull [] buildFoldRegions(@NotNull PsiElement root,
                                                         @NotNull Document document,
@@ -34,6 +56,10 @@ final class SimpleFoldingBuilder extends FoldingBuilderEx implements DumbAware {
     FoldingGroup group = FoldingGroup.newGroup(SimpleAnnotator.SIMPLE_PREFIX_STR);
     // Initialize the list of folding regions
     List<FoldingDescriptor> descriptors = new ArrayList<>();
+    Project project = root.getProject();
+    Map<String, String> placeholders = getPlaceholders(project);
+    Set<Object> dependencies = Set.of(getSimpleModificationTracker(project),
+        DumbService.getInstance(project).getModificationTracker());
 
     root.accept(new JavaRecursiveElementWalkingVisitor() {
 
@@ -44,19 +70,20 @@ final class SimpleFoldingBuilder extends FoldingBuilderEx implements DumbAware {
         String value = PsiLiteralUtil.getStringLiteralContent(literalExpression);
         if (value != null &&
             value.startsWith(SimpleAnnotator.SIMPLE_PREFIX_STR + SimpleAnnotator.SIMPLE_SEPARATOR_STR)) {
-          Project project = literalExpression.getProject();
           String key = value.substring(
               SimpleAnnotator.SIMPLE_PREFIX_STR.length() + SimpleAnnotator.SIMPLE_SEPARATOR_STR.length()
           );
-          // find SimpleProperty for the given key in the project
-          SimpleProperty simpleProperty = ContainerUtil.getOnlyItem(SimpleUtil.findProperties(project, key));
-          if (simpleProperty != null) {
-            // Add a folding descriptor for the literal expression at this node.
-            descriptors.add(new FoldingDescriptor(literalExpression.getNode(),
-                new TextRange(literalExpression.getTextRange().getStartOffset() + 1,
-                    literalExpression.getTextRange().getEndOffset() - 1),
-                group, Collections.singleton(simpleProperty)));
+          // In quick mode, the region is built from syntax only and the placeholder is computed on demand
+          // by getPlaceholderText(). Otherwise, resolve the key once for all literals sharing it.
+          String placeholder = quick ? placeholders.get(key) : getPlaceholder(project, key, placeholders);
+          if (NO_PLACEHOLDER.equals(placeholder)) {
+            return;
           }
+          // Add a folding descriptor for the literal expression at this node.
+          descriptors.add(new FoldingDescriptor(literalExpression.getNode(),
+              new TextRange(literalExpression.getTextRange().getStartOffset() + 1,
+                  literalExpression.getTextRange().getEndOffset() - 1),
+              group, dependencies, false, placeholder, null));
         }
       }
     });
@@ -65,7 +92,8 @@ final class SimpleFoldingBuilder extends FoldingBuilderEx implements DumbAware {
   }
 
   /**
-   * Gets the Simple Language 'value' string corresponding to the 'key'
+   * Gets the Simple Language 'value' string corresponding to the 'key'.
+   * Only called for regions built in quick mode whose placeholder was not cached yet.
    *
    * @param node Node corresponding to PsiLiteralExpression containing a string in the format
    *             SIMPLE_PREFIX_STR + SIMPLE_SEPARATOR_STR + Key, where Key is
@@ -83,24 +111,10 @@ final class SimpleFoldingBuilder extends FoldingBuilderEx implements DumbAware {
       String key = text.substring(SimpleAnnotator.SIMPLE_PREFIX_STR.length() +
           SimpleAnnotator.SIMPLE_SEPARATOR_STR.length());
 
-      SimpleProperty simpleProperty = ContainerUtil.getOnlyItem(
-          SimpleUtil.findProperties(psiLiteralExpression.getProject(), key)
-      );
-      if (simpleProperty == null) {
-        return StringUtil.THREE_DOTS;
-      }
-
-      String propertyValue = simpleProperty.getValue();
-      // IMPORTANT: keys can come with no values, so a test for null is needed
-      // IMPORTANT: Convert embedded \n to backslash n, so that the string will look
-      // like it has LF embedded in it and embedded " to escaped "
-      if (propertyValue == null) {
-        return StringUtil.THREE_DOTS;
-      }
-
-      return propertyValue
-          .replaceAll("\n", "\\n")
-          .replaceAll("\"", "\\\\\"");
+      String placeholder = getPlaceholder(psiLiteralExpression.getProject(), key,
+          getPlaceholders(psiLiteralExpression.getProject()));
+      // An unresolved key keeps its own text until the next full pass drops the region
+      return NO_PLACEHOLDER.equals(placeholder) ? text : placeholder;
     }
 
     return null;
@@ -111,4 +125,105 @@ final class SimpleFoldingBuilder extends FoldingBuilderEx implements DumbAware {
     return true;
   }
 
+  /**
+   * Computes the placeholder of the key into the shared cache ahead of the first folding pass,
+   * see {@link SimpleWarmUpService}. Only values held in full by the stub are cached, so no AST is loaded.
+   *
+   * @return whether the placeholder of the key is cached
+   */
+  static boolean cachePlaceholderFromStub(@NotNull Project project, @NotNull String key) {
+    Map<String, String> placeholders = getPlaceholders(project);
+    if (placeholders.containsKey(key)) {
+      return true;
+    }
+    SimpleProperty simpleProperty = ContainerUtil.getOnlyItem(SimpleUtil.findProperties(project, key));
+    String placeholder = simpleProperty == null ? NO_PLACEHOLDER : getStubPlaceholder(simpleProperty);
+    if (placeholder == null) {
+      return false;
+    }
+    placeholders.put(key, placeholder);
+    return true;
+  }
+
+  private static @NotNull String getPlaceholder(@NotNull Project project,
+                                                @NotNull String key,
+                                                @NotNull Map<String, String> placeholders) {
+    String placeholder = placeholders.get(key);
+    if (placeholder == null) {
+      placeholder = computePlaceholder(project, key);
+      placeholders.put(key, placeholder);
+    }
+    return placeholder;
+  }
+
+  private static @NotNull String computePlaceholder(@NotNull Project project, @NotNull String key) {
+    if (DumbService.isDumb(project)) {
+      return computeDumbPlaceholder(project, key);
+    }
+    // find SimpleProperty for the given key in the project
+    SimpleProperty simpleProperty = ContainerUtil.getOnlyItem(SimpleUtil.findProperties(project, key));
+    if (simpleProperty == null) {
+      return NO_PLACEHOLDER;
+    }
+
+    String stubPlaceholder = getStubPlaceholder(simpleProperty);
+    if (stubPlaceholder != null) {
+      return stubPlaceholder;
+    }
+
+    String propertyValue = simpleProperty.getDecodedValue();
+    // IMPORTANT: keys can come with no values, so a test for null is needed
+    // IMPORTANT: Convert control characters like LF back to escapes such as backslash n, so that the string will look
+    // like it has LF embedded in it and embedded " to escaped "
+    if (propertyValue == null) {
+      return StringUtil.THREE_DOTS;
+    }
+
+    return StringUtil.escapeStringCharacters(propertyValue);
+  }
+
+  /**
+   * Builds the placeholder from the value prefix of the stub when the prefix holds the whole value.
+   *
+   * @return the placeholder, or {@code null} if the value has to be read from the AST: the prefix may be cut, or is
+   * empty and can't tell an empty value from a missing one
+   */
+  private static @Nullable String getStubPlaceholder(@NotNull SimpleProperty property) {
+    SimplePropertyStub stub = property.getStub();
+    if (stub == null) {
+      return null;
+    }
+    String valuePrefix = stub.getValuePrefix();
+    if (valuePrefix.isEmpty() || valuePrefix.length() >= SimplePropertyElementType.VALUE_PREFIX_LENGTH) {
+      return null;
+    }
+    return StringUtil.escapeStringCharacters(SimplePsiImplUtil.decodeValue(valuePrefix));
+  }
+
+  /**
+   * Takes the value from the open and recently edited Simple files while indexes are not ready.
+   */
+  private static @NotNull String computeDumbPlaceholder(@NotNull Project project, @NotNull String key) {
+    SimpleDumbModeKeyTable.Definition definition = SimpleDumbModeKeyTable.getInstance(project).getDefinition(key);
+    if (definition == null) {
+      return NO_PLACEHOLDER;
+    }
+    if (definition.value() == null) {
+      return StringUtil.THREE_DOTS;
+    }
+    return StringUtil.escapeStringCharacters(SimplePsiImplUtil.decodeValue(definition.value()));
+  }
+
+  private static @NotNull Map<String, String> getPlaceholders(@NotNull Project project) {
+    return CachedValuesManager.getManager(project).getCachedValue(project, PLACEHOLDERS, () ->
+        CachedValueProvider.Result.create(new ConcurrentHashMap<>(), getSimpleModificationTracker(project),
+            VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS, ProjectRootModificationTracker.getInstance(project),
+            DumbService.getInstance(project).getModificationTracker()),
+        false);
+  }
+
+  private static @NotNull ModificationTracker getSimpleModificationTracker(@NotNull Project project) {
+    return PsiModificationTracker.getInstance(project).forLanguage(SimpleLanguage.INSTANCE);
+  }
+
 }
@@ -0,0 +1,133 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.codeInsight.completion.*;
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.lookup.LookupElementBuilder;
+import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.codeInsight.lookup.LookupElementRenderer;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.patterns.PlatformPatterns;
+import com.intellij.psi.JavaTokenType;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.util.ProcessingContext;
+import com.intellij.util.Processor;
+import com.intellij.util.containers.ContainerUtil;
+import org.intellij.sdk.language.psi.SimpleProperty;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Completes Simple property keys inside {@code "simple:"} Java string literals.
+ * <p>
+ * Keys are streamed from {@link SimpleKeyIndex} and filtered by the typed prefix before any lookup element is
+ * created. For dotted keys only the next segment is offered, and once a namespace has been typed the candidates come
+ * from {@link SimpleNamespaceIndex}. The containing file shown as type text is only computed when the item is rendered.
+ * <p>
+ * While indexes are being built, keys come from the {@link SimpleDumbModeKeyTable} instead.
+ */
+final class SimpleKeyCompletionContributor extends CompletionContributor implements DumbAware {
+
+  SimpleKeyCompletionContributor() {
+    extend(CompletionType.BASIC,
+        PlatformPatterns.psiElement(JavaTokenType.STRING_LITERAL).withParent(PsiLiteralExpression.class),
+        new CompletionProvider<>() {
+          public void addCompletions(@NotNull CompletionParameters parameters,
+                                     @NotNull ProcessingContext context,
+                                     @NotNull CompletionResultSet resultSet) {
+            String prefix = getKeyPrefix(parameters);
+            if (prefix == null) {
+              return;
+            }
+
+            CompletionResultSet result = resultSet.withPrefixMatcher(prefix);
+            Project project = parameters.getPosition().getProject();
+            GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+            // only the segment following the typed namespace is offered, e.g. 'a.b' for 'a.b.c' when 'a.' was typed
+            int namespaceEnd = prefix.lastIndexOf(SimpleNamespaceIndex.SEPARATOR);
+            int segmentStart = namespaceEnd + 1;
+            Set<String> offered = new HashSet<>();
+            if (DumbService.isDumb(project)) {
+              for (Map.Entry<String, SimpleDumbModeKeyTable.Definition> entry :
+                  SimpleDumbModeKeyTable.getInstance(project).getDefinitions().entrySet()) {
+                String segment = SimpleNamespaceIndex.getNextSegment(entry.getKey(), segmentStart);
+                if (!segment.isEmpty() && result.getPrefixMatcher().prefixMatches(segment) && offered.add(segment)) {
+                  result.addElement(LookupElementBuilder.create(segment)
+                      .withIcon(SimpleIcons.FILE)
+                      .withTypeText(entry.getValue().file().getName()));
+                }
+              }
+              return;
+            }
+            Processor<String> segmentProcessor = key -> {
+              String segment = SimpleNamespaceIndex.getNextSegment(key, segmentStart);
+              if (!segment.isEmpty() && offered.add(segment)) {
+                result.addElement(createLookupElement(project, segment));
+              }
+              return !result.isStopped();
+            };
+
+            if (namespaceEnd > 0) {
+              StubIndex.getInstance().processElements(SimpleNamespaceIndex.KEY, prefix.substring(0, namespaceEnd),
+                  project, scope, SimpleProperty.class, property -> {
+                    ProgressManager.checkCanceled();
+                    String key = property.getKey();
+                    return key == null || !result.getPrefixMatcher().prefixMatches(key) || segmentProcessor.process(key);
+                  });
+            } else {
+              StubIndex.getInstance().processAllKeys(SimpleKeyIndex.KEY, key -> {
+                ProgressManager.checkCanceled();
+                // keys reported by the index may be stale, so check the key is still defined before offering it
+                return !result.getPrefixMatcher().prefixMatches(key) ||
+                       offered.contains(SimpleNamespaceIndex.getNextSegment(key, segmentStart)) ||
+                       !SimpleUtil.isKeyDefined(project, key, scope) ||
+                       segmentProcessor.process(key);
+              }, scope, null);
+            }
+          }
+        }
+    );
+  }
+
+  /**
+   * @return the part of the key typed before the caret, or {@code null} if the caret is not in a Simple literal
+   */
+  private static @Nullable String getKeyPrefix(@NotNull CompletionParameters parameters) {
+    PsiElement position = parameters.getPosition();
+    String text = position.getText();
+    int caret = parameters.getOffset() - position.getTextRange().getStartOffset();
+    String keyStart = "\"" + SimpleAnnotator.SIMPLE_PREFIX_STR + SimpleAnnotator.SIMPLE_SEPARATOR_STR;
+    if (!text.startsWith(keyStart) || caret < keyStart.length() || caret > text.length()) {
+      return null;
+    }
+    return text.substring(keyStart.length(), caret);
+  }
+
+  private static @NotNull LookupElement createLookupElement(@NotNull Project project, @NotNull String key) {
+    return LookupElementBuilder.create(key)
+        .withIcon(SimpleIcons.FILE)
+        .withExpensiveRenderer(new LookupElementRenderer<>() {
+          @Override
+          public void renderElement(LookupElement element, LookupElementPresentation presentation) {
+            presentation.setItemText(key);
+            presentation.setIcon(SimpleIcons.FILE);
+            SimpleProperty property = ContainerUtil.getFirstItem(SimpleUtil.findProperties(project, key));
+            if (property != null) {
+              presentation.setTypeText(property.getContainingFile().getName());
+            }
+          }
+        });
+  }
+
+}
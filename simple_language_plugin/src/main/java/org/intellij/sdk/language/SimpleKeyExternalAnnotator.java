@@ -0,0 +1,90 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.lang.annotation.AnnotationHolder;
+import com.intellij.lang.annotation.ExternalAnnotator;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.JavaRecursiveElementWalkingVisitor;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiLiteralExpression;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resolves all {@code "simple:key"} literals of a Java file in one batch.
+ * <p>
+ * The literals are collected first, the distinct keys are then looked up in {@link SimpleKeyIndex} off the EDT, and
+ * finally unresolved keys are reported. The cost thus depends on the number of distinct keys, not on the number of
+ * literals. Highlighting of the prefix and separator stays in {@link SimpleAnnotator}.
+ */
+final class SimpleKeyExternalAnnotator
+    extends ExternalAnnotator<SimpleKeyExternalAnnotator.CollectedLiterals, SimpleKeyExternalAnnotator.ResolvedKeys> {
+
+  record KeyLiteral(@NotNull String key, @NotNull TextRange keyRange) {
+  }
+
+  record CollectedLiterals(@NotNull Project project, @NotNull List<KeyLiteral> literals) {
+  }
+
+  record ResolvedKeys(@NotNull List<KeyLiteral> literals, @NotNull Set<String> definedKeys) {
+  }
+
+  @Override
+  public @Nullable CollectedLiterals collectInformation(@NotNull PsiFile file) {
+    List<KeyLiteral> literals = new ArrayList<>();
+    file.accept(new JavaRecursiveElementWalkingVisitor() {
+      @Override
+      public void visitLiteralExpression(@NotNull PsiLiteralExpression literalExpression) {
+        String key = SimpleUtil.getReferencedKey(literalExpression);
+        if (key != null) {
+          // "simple:key"
+          //  01234567890
+          TextRange range = literalExpression.getTextRange();
+          int keyStart = range.getStartOffset() + 1 +
+              SimpleAnnotator.SIMPLE_PREFIX_STR.length() + SimpleAnnotator.SIMPLE_SEPARATOR_STR.length();
+          literals.add(new KeyLiteral(key, new TextRange(keyStart, range.getEndOffset() - 1)));
+        }
+      }
+    });
+    return literals.isEmpty() ? null : new CollectedLiterals(file.getProject(), literals);
+  }
+
+  @Override
+  public @Nullable ResolvedKeys doAnnotate(CollectedLiterals collectedInfo) {
+    Set<String> keys = new LinkedHashSet<>();
+    for (KeyLiteral literal : collectedInfo.literals()) {
+      keys.add(literal.key());
+    }
+    Set<String> definedKeys = ReadAction.compute(() -> SimpleUtil.findDefinedKeys(collectedInfo.project(), keys));
+    return new ResolvedKeys(collectedInfo.literals(), definedKeys);
+  }
+
+  @Override
+  public void apply(@NotNull PsiFile file, ResolvedKeys annotationResult, @NotNull AnnotationHolder holder) {
+    for (KeyLiteral literal : annotationResult.literals()) {
+      if (annotationResult.definedKeys().contains(literal.key())) {
+        // Found at least one property, force the text attributes to Simple syntax value character
+        holder.newSilentAnnotation(HighlightSeverity.INFORMATION)
+            .range(literal.keyRange()).textAttributes(SimpleSyntaxHighlighter.VALUE).create();
+      } else {
+        holder.newAnnotation(HighlightSeverity.ERROR, "Unresolved property")
+            .range(literal.keyRange())
+            .highlightType(ProblemHighlightType.LIKE_UNKNOWN_SYMBOL)
+            // ** Tutorial step 19. - Add a quick fix for the string containing possible properties
+            .withFix(new SimpleCreatePropertyQuickFix(literal.key()))
+            .create();
+      }
+    }
+  }
+
+}
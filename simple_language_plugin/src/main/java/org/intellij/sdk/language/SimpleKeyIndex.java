@@ -0,0 +1,30 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndexKey;
+import org.intellij.sdk.language.psi.SimpleProperty;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Maps the unescaped key of every Simple property to its stub-backed PSI element.
+ * <p>
+ * Keys are taken from {@link org.intellij.sdk.language.psi.SimplePropertyStub}, so lookups never load the AST.
+ */
+public final class SimpleKeyIndex extends StringStubIndexExtension<SimpleProperty> {
+
+  public static final StubIndexKey<String, SimpleProperty> KEY =
+      StubIndexKey.createIndexKey("org.intellij.sdk.language.SimpleKeyIndex");
+
+  @Override
+  public @NotNull StubIndexKey<String, SimpleProperty> getKey() {
+    return KEY;
+  }
+
+  @Override
+  public int getVersion() {
+    return 2;
+  }
+
+}
@@ -0,0 +1,89 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.SingleRootFileViewProvider;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorIntegerDescriptor;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.intellij.sdk.language.psi.SimpleTypes;
+import org.intellij.sdk.language.psi.impl.SimplePsiImplUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps the unescaped key of every Simple property to the offset of its first definition,
+ * for Simple files that are too large to get PSI and therefore aren't covered by {@link SimpleKeyIndex}.
+ * <p>
+ * Keys are collected by streaming the file content through {@link SimpleLexerAdapter}.
+ */
+public final class SimpleLargeFileKeyIndex extends FileBasedIndexExtension<String, Integer> {
+
+  public static final ID<String, Integer> NAME = ID.create("org.intellij.sdk.language.SimpleLargeFileKeyIndex");
+
+  @Override
+  public @NotNull ID<String, Integer> getName() {
+    return NAME;
+  }
+
+  @Override
+  public @NotNull DataIndexer<String, Integer, FileContent> getIndexer() {
+    return inputData -> {
+      Map<String, Integer> result = new HashMap<>();
+      Lexer lexer = new SimpleLexerAdapter();
+      lexer.start(inputData.getContentAsText());
+      while (lexer.getTokenType() != null) {
+        if (lexer.getTokenType() == SimpleTypes.KEY) {
+          result.putIfAbsent(SimplePsiImplUtil.unescapeKey(lexer.getTokenText()), lexer.getTokenStart());
+        }
+        lexer.advance();
+      }
+      return result;
+    };
+  }
+
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @Override
+  public @NotNull DataExternalizer<Integer> getValueExternalizer() {
+    return EnumeratorIntegerDescriptor.INSTANCE;
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  @Override
+  public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(SimpleFileType.INSTANCE) {
+      @Override
+      public boolean acceptInput(@NotNull VirtualFile file) {
+        return SingleRootFileViewProvider.isTooLargeForIntelligence(file);
+      }
+    };
+  }
+
+  @Override
+  public @NotNull Collection<FileType> getFileTypesWithSizeLimitNotApplicable() {
+    return Collections.singletonList(SimpleFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+}
@@ -0,0 +1,121 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.openapi.fileEditor.OpenFileDescriptor;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.impl.FakePsiElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.util.Objects;
+
+/**
+ * Lightweight element for a Simple property found without PSI: in a file that is too large to get PSI,
+ * as found by {@link SimpleLargeFileKeyIndex}, or by {@link SimpleDumbModeKeyTable} while indexes are not ready.
+ * <p>
+ * Navigation opens the file at the key offset, in the read-only viewer the IDE uses for such files.
+ */
+public final class SimpleLargeFileProperty extends FakePsiElement {
+
+  private final Project myProject;
+  private final VirtualFile myFile;
+  private final String myKey;
+  private final int myOffset;
+
+  SimpleLargeFileProperty(@NotNull Project project, @NotNull VirtualFile file, @NotNull String key, int offset) {
+    myProject = project;
+    myFile = file;
+    myKey = key;
+    myOffset = offset;
+  }
+
+  public @NotNull VirtualFile getFile() {
+    return myFile;
+  }
+
+  public @NotNull String getKey() {
+    return myKey;
+  }
+
+  public int getOffset() {
+    return myOffset;
+  }
+
+  @Override
+  public @Nullable PsiElement getParent() {
+    return PsiManager.getInstance(myProject).findFile(myFile);
+  }
+
+  @Override
+  public @NotNull Project getProject() {
+    return myProject;
+  }
+
+  @Override
+  public PsiManager getManager() {
+    return PsiManager.getInstance(myProject);
+  }
+
+  @Override
+  public boolean isValid() {
+    return myFile.isValid();
+  }
+
+  @Override
+  public String getName() {
+    return myKey;
+  }
+
+  @Override
+  public String getPresentableText() {
+    return myKey;
+  }
+
+  @Override
+  public String getLocationString() {
+    return myFile.getName();
+  }
+
+  @Override
+  public Icon getIcon(boolean open) {
+    return SimpleIcons.FILE;
+  }
+
+  @Override
+  public int getTextOffset() {
+    return myOffset;
+  }
+
+  @Override
+  public void navigate(boolean requestFocus) {
+    new OpenFileDescriptor(myProject, myFile, myOffset).navigate(requestFocus);
+  }
+
+  @Override
+  public boolean canNavigate() {
+    return myFile.isValid();
+  }
+
+  @Override
+  public boolean canNavigateToSource() {
+    return canNavigate();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof SimpleLargeFileProperty other)) return false;
+    return myOffset == other.myOffset && myFile.equals(other.myFile) && myKey.equals(other.myKey);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(myFile, myKey, myOffset);
+  }
+
+}
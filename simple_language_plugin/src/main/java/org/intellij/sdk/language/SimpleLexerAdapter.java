@@ -3,6 +3,9 @@
 package org.intellij.sdk.language;
 
 import com.intellij.lexer.FlexAdapter;
+import com.intellij.psi.tree.IElementType;
+import org.intellij.sdk.language.psi.SimpleTypes;
+import org.jetbrains.annotations.NotNull;
 
 public class SimpleLexerAdapter extends FlexAdapter {
 
@@ -10,4 +13,16 @@ public class SimpleLexerAdapter extends FlexAdapter {
     super(new SimpleLexer(null));
   }
 
+  /**
+   * Checks whether the whole text lexes to exactly one token of the given type.
+   * Used to decide if an edited leaf can be reparsed on its own.
+   */
+  public static boolean isSingleToken(@NotNull CharSequence text, @NotNull IElementType tokenType) {
+    SimpleLexerAdapter lexer = new SimpleLexerAdapter();
+    // values are only recognized after a separator
+    int initialState = tokenType == SimpleTypes.VALUE ? SimpleLexer.WAITING_VALUE : SimpleLexer.YYINITIAL;
+    lexer.start(text, 0, text.length(), initialState);
+    return lexer.getTokenType() == tokenType && lexer.getTokenEnd() == text.length();
+  }
+
 }
@@ -6,46 +6,63 @@ import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
 import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.NotNullLazyValue;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiLiteralExpression;
 import com.intellij.psi.impl.source.tree.java.PsiJavaTokenImpl;
-import org.intellij.sdk.language.psi.SimpleProperty;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
 
 final class SimpleLineMarkerProvider extends RelatedItemLineMarkerProvider {
 
+  /**
+   * Markers are computed on the slow pass for all elements of the file at once: the referenced keys are collected
+   * first and checked with a single lookup per distinct key. Navigation targets are only resolved when the user
+   * actually hovers or clicks the gutter icon.
+   */
   @Override
-  protected void collectNavigationMarkers(@NotNull PsiElement element,
-                                          @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result) {
-    // This must be an element with a literal expression as a parent
-    if (!(element instanceof PsiJavaTokenImpl) || !(element.getParent() instanceof PsiLiteralExpression literalExpression)) {
-      return;
+  public void collectNavigationMarkers(@NotNull List<? extends PsiElement> elements,
+                                       @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result,
+                                       boolean forNavigation) {
+    // Collect all Simple language property usages, keyed by the literal token holding them
+    Map<PsiElement, String> keysByToken = new LinkedHashMap<>();
+    for (PsiElement element : elements) {
+      // This must be an element with a literal expression as a parent
+      if (element instanceof PsiJavaTokenImpl && element.getParent() instanceof PsiLiteralExpression literalExpression) {
+        // The literal expression must start with the Simple language literal expression
+        String key = SimpleUtil.getReferencedKey(literalExpression);
+        if (key != null) {
+          keysByToken.put(element, key);
+        }
+      }
     }
-
-    // The literal expression must start with the Simple language literal expression
-    String value = literalExpression.getValue() instanceof String ? (String) literalExpression.getValue() : null;
-    if ((value == null) ||
-        !value.startsWith(SimpleAnnotator.SIMPLE_PREFIX_STR + SimpleAnnotator.SIMPLE_SEPARATOR_STR)) {
+    if (keysByToken.isEmpty()) {
       return;
     }
 
-    // Get the Simple language property usage
-    Project project = element.getProject();
-    String possibleProperties = value.substring(
-        SimpleAnnotator.SIMPLE_PREFIX_STR.length() + SimpleAnnotator.SIMPLE_SEPARATOR_STR.length()
-    );
-    final List<SimpleProperty> properties = SimpleUtil.findProperties(project, possibleProperties);
-    if (!properties.isEmpty()) {
-      // Add the property to a collection of line marker info
-      NavigationGutterIconBuilder<PsiElement> builder =
-          NavigationGutterIconBuilder.create(SimpleIcons.FILE)
-              .setTargets(properties)
-              .setTooltipText("Navigate to Simple language property");
-      result.add(builder.createLineMarkerInfo(element));
+    Project project = elements.get(0).getProject();
+    Set<String> definedKeys = SimpleUtil.findDefinedKeys(project, new HashSet<>(keysByToken.values()));
+    for (Map.Entry<PsiElement, String> entry : keysByToken.entrySet()) {
+      String key = entry.getValue();
+      if (definedKeys.contains(key)) {
+        // Add the property to a collection of line marker info
+        NavigationGutterIconBuilder<PsiElement> builder =
+            NavigationGutterIconBuilder.create(SimpleIcons.FILE)
+                .setTargets(NotNullLazyValue.lazy(() -> findTargets(project, key)))
+                .setTooltipText("Navigate to Simple language property");
+        result.add(builder.createLineMarkerInfo(entry.getKey()));
+      }
     }
   }
 
+  /**
+   * Includes the keys of Simple files too large for PSI, which {@link SimpleUtil#findDefinedKeys} counts as defined.
+   */
+  private static @NotNull List<PsiElement> findTargets(@NotNull Project project, @NotNull String key) {
+    List<PsiElement> targets = new ArrayList<>(SimpleUtil.findProperties(project, key));
+    targets.addAll(SimpleUtil.findLargeFileProperties(project, key));
+    return targets;
+  }
+
 }
@@ -0,0 +1,56 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndexKey;
+import org.intellij.sdk.language.psi.SimpleProperty;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps every namespace of a dotted key to the Simple properties under it: {@code a.b.c} is indexed under
+ * {@code a} and {@code a.b}. All keys under a namespace are therefore found with a single lookup.
+ */
+public final class SimpleNamespaceIndex extends StringStubIndexExtension<SimpleProperty> {
+
+  public static final StubIndexKey<String, SimpleProperty> KEY =
+      StubIndexKey.createIndexKey("org.intellij.sdk.language.SimpleNamespaceIndex");
+
+  public static final char SEPARATOR = '.';
+
+  @Override
+  public @NotNull StubIndexKey<String, SimpleProperty> getKey() {
+    return KEY;
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  /**
+   * @return the namespaces of the key, from the outermost to the innermost
+   */
+  public static @NotNull List<String> getNamespaces(@NotNull String key) {
+    List<String> namespaces = new ArrayList<>();
+    for (int dot = key.indexOf(SEPARATOR); dot >= 0; dot = key.indexOf(SEPARATOR, dot + 1)) {
+      if (dot > 0) {
+        namespaces.add(key.substring(0, dot));
+      }
+    }
+    return namespaces;
+  }
+
+  /**
+   * Cuts the key after the first segment that follows the given namespace prefix length,
+   * e.g. {@code a.b} for {@code a.b.c} and a prefix length of 2.
+   */
+  public static @NotNull String getNextSegment(@NotNull String key, int prefixLength) {
+    int dot = key.indexOf(SEPARATOR, prefixLength);
+    return dot >= 0 ? key.substring(0, dot) : key;
+  }
+
+}
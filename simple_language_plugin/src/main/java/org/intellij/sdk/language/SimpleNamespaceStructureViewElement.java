@@ -0,0 +1,113 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.ide.projectView.PresentationData;
+import com.intellij.ide.structureView.StructureViewTreeElement;
+import com.intellij.ide.util.treeView.smartTree.SortableTreeElement;
+import com.intellij.ide.util.treeView.smartTree.TreeElement;
+import com.intellij.navigation.ItemPresentation;
+import com.intellij.openapi.util.text.StringUtil;
+import org.intellij.sdk.language.psi.SimpleProperty;
+import org.intellij.sdk.language.psi.impl.SimplePropertyImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A segment of dotted keys in the structure view, e.g. {@code b} under {@code a} for {@code a.b.c.key}.
+ * <p>
+ * The element only keeps the stub-backed properties below its namespace. Their tree elements, and the elements of
+ * nested namespaces, are created when the node is expanded, so a large file only costs one node per top-level
+ * segment until it is browsed.
+ */
+final class SimpleNamespaceStructureViewElement implements StructureViewTreeElement, SortableTreeElement {
+
+  private final String myNamespace;
+  private final List<SimpleProperty> myProperties;
+
+  private SimpleNamespaceStructureViewElement(@NotNull String namespace, @NotNull List<SimpleProperty> properties) {
+    myNamespace = namespace;
+    myProperties = properties;
+  }
+
+  /**
+   * Creates the elements of the properties directly in the namespace with the given prefix, and one element for each
+   * nested namespace, in the order of their first property.
+   *
+   * @param prefix     the namespace followed by a separator, or an empty string for the file
+   * @param properties properties whose keys start with the prefix
+   */
+  static TreeElement @NotNull [] createChildren(@NotNull String prefix, @NotNull List<SimpleProperty> properties) {
+    List<TreeElement> children = new ArrayList<>();
+    Map<String, List<SimpleProperty>> nested = new HashMap<>();
+    for (SimpleProperty property : properties) {
+      String key = StringUtil.notNullize(property.getKey());
+      int dot = key.indexOf(SimpleNamespaceIndex.SEPARATOR, prefix.length());
+      // keys without a further non-empty segment stay at this level
+      if (dot <= prefix.length()) {
+        children.add(new SimpleStructureViewElement((SimplePropertyImpl) property));
+        continue;
+      }
+      String namespace = key.substring(0, dot);
+      List<SimpleProperty> nestedProperties = nested.get(namespace);
+      if (nestedProperties == null) {
+        nestedProperties = new ArrayList<>();
+        nested.put(namespace, nestedProperties);
+        children.add(new SimpleNamespaceStructureViewElement(namespace, nestedProperties));
+      }
+      nestedProperties.add(property);
+    }
+    return children.toArray(TreeElement.EMPTY_ARRAY);
+  }
+
+  @Override
+  public Object getValue() {
+    return myNamespace;
+  }
+
+  @Override
+  public boolean canNavigate() {
+    return false;
+  }
+
+  @Override
+  public boolean canNavigateToSource() {
+    return false;
+  }
+
+  /**
+   * The full namespace, so that it sorts among the full keys of its siblings.
+   */
+  @Override
+  public @NotNull String getAlphaSortKey() {
+    return myNamespace;
+  }
+
+  @Override
+  public @NotNull ItemPresentation getPresentation() {
+    // the enclosing namespaces show the outer segments
+    String segment = myNamespace.substring(myNamespace.lastIndexOf(SimpleNamespaceIndex.SEPARATOR) + 1);
+    return new PresentationData(segment, null, AllIcons.Nodes.Package, null);
+  }
+
+  @Override
+  public TreeElement @NotNull [] getChildren() {
+    return createChildren(myNamespace + SimpleNamespaceIndex.SEPARATOR, myProperties);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof SimpleNamespaceStructureViewElement element && myNamespace.equals(element.myNamespace);
+  }
+
+  @Override
+  public int hashCode() {
+    return myNamespace.hashCode();
+  }
+
+}
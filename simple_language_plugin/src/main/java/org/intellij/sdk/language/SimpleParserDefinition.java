@@ -14,13 +14,14 @@ import com.intellij.psi.tree.IFileElementType;
 import com.intellij.psi.tree.TokenSet;
 import org.intellij.sdk.language.parser.SimpleParser;
 import org.intellij.sdk.language.psi.SimpleFile;
+import org.intellij.sdk.language.psi.SimpleFileElementType;
 import org.intellij.sdk.language.psi.SimpleTokenSets;
 import org.intellij.sdk.language.psi.SimpleTypes;
 import org.jetbrains.annotations.NotNull;
 
 final class SimpleParserDefinition implements ParserDefinition {
 
-  public static final IFileElementType FILE = new IFileElementType(SimpleLanguage.INSTANCE);
+  public static final IFileElementType FILE = new SimpleFileElementType();
 
   @NotNull
   @Override
@@ -2,14 +2,14 @@
 
 package org.intellij.sdk.language;
 
-import com.intellij.codeInsight.lookup.LookupElement;
-import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementResolveResult;
 import com.intellij.psi.PsiPolyVariantReferenceBase;
 import com.intellij.psi.ResolveResult;
+import com.intellij.psi.impl.source.resolve.ResolveCache;
+import com.intellij.util.ArrayUtil;
 import org.intellij.sdk.language.psi.SimpleProperty;
 import org.jetbrains.annotations.NotNull;
 
@@ -18,39 +18,47 @@ import java.util.List;
 
 final class SimpleReference extends PsiPolyVariantReferenceBase<PsiElement> {
 
+  static final ResolveCache.PolyVariantResolver<SimpleReference> RESOLVER =
+      (reference, incompleteCode) -> reference.resolveKey();
+
   private final String key;
 
-  SimpleReference(@NotNull PsiElement element, TextRange textRange) {
+  /**
+   * @param key the unescaped key, which may differ from the text of the range when the literal contains escapes
+   */
+  SimpleReference(@NotNull PsiElement element, TextRange textRange, @NotNull String key) {
     super(element, textRange);
-    key = element.getText()
-        .substring(textRange.getStartOffset(), textRange.getEndOffset());
+    this.key = key;
   }
 
+  /**
+   * Results are cached by {@link ResolveCache} until the next PSI change, which requires the same reference instance
+   * to be returned for a literal, see {@link SimpleReferenceContributor}.
+   */
   @Override
   public ResolveResult @NotNull [] multiResolve(boolean incompleteCode) {
+    return ResolveCache.getInstance(myElement.getProject()).resolveWithCaching(this, RESOLVER, false, incompleteCode);
+  }
+
+  private ResolveResult @NotNull [] resolveKey() {
     Project project = myElement.getProject();
     List<SimpleProperty> properties = SimpleUtil.findProperties(project, key);
     List<ResolveResult> results = new ArrayList<>();
     for (SimpleProperty property : properties) {
       results.add(new PsiElementResolveResult(property));
     }
-    return results.toArray(new ResolveResult[0]);
+    for (SimpleLargeFileProperty property : SimpleUtil.findLargeFileProperties(project, key)) {
+      results.add(new PsiElementResolveResult(property));
+    }
+    return results.toArray(ResolveResult.EMPTY_ARRAY);
   }
 
+  /**
+   * Variants are provided by {@link SimpleKeyCompletionContributor}, which filters keys by the typed prefix.
+   */
   @Override
   public Object @NotNull [] getVariants() {
-    Project project = myElement.getProject();
-    List<SimpleProperty> properties = SimpleUtil.findProperties(project);
-    List<LookupElement> variants = new ArrayList<>();
-    for (SimpleProperty property : properties) {
-      if (property.getKey() != null && !property.getKey().isEmpty()) {
-        variants.add(LookupElementBuilder
-            .create(property).withIcon(SimpleIcons.FILE)
-            .withTypeText(property.getContainingFile().getName())
-        );
-      }
-    }
-    return variants.toArray();
+    return ArrayUtil.EMPTY_OBJECT_ARRAY;
   }
 
 }
@@ -2,35 +2,84 @@
 
 package org.intellij.sdk.language;
 
+import com.intellij.codeInsight.CodeInsightUtilCore;
+import com.intellij.lang.ASTNode;
 import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.patterns.PatternCondition;
 import com.intellij.patterns.PlatformPatterns;
 import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.util.ProcessingContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static org.intellij.sdk.language.SimpleAnnotator.SIMPLE_PREFIX_STR;
 import static org.intellij.sdk.language.SimpleAnnotator.SIMPLE_SEPARATOR_STR;
 
+/**
+ * Provides a {@link SimpleReference} for {@code "simple:key"} Java string literals.
+ * <p>
+ * The provider is consulted for every literal of every Java file, so literals are rejected by a pattern on the raw
+ * token text, without computing their value. The key of an accepted literal is unescaped like the literal value, as in
+ * {@link SimpleUsageIndex} and {@link SimpleUtil#getReferencedKey}, while its range stays on the raw text.
+ * The resulting references are cached per literal.
+ */
 final class SimpleReferenceContributor extends PsiReferenceContributor {
 
+  private static final String LITERAL_PREFIX = "\"" + SIMPLE_PREFIX_STR + SIMPLE_SEPARATOR_STR;
+
+  private static final PatternCondition<PsiLiteralExpression> SIMPLE_LITERAL =
+      new PatternCondition<>("simpleLiteral") {
+        @Override
+        public boolean accepts(@NotNull PsiLiteralExpression literalExpression, ProcessingContext context) {
+          return getKeyRange(literalExpression) != null;
+        }
+      };
+
   @Override
   public void registerReferenceProviders(@NotNull PsiReferenceRegistrar registrar) {
-    registrar.registerReferenceProvider(PlatformPatterns.psiElement(PsiLiteralExpression.class),
+    registrar.registerReferenceProvider(PlatformPatterns.psiElement(PsiLiteralExpression.class).with(SIMPLE_LITERAL),
         new PsiReferenceProvider() {
           @Override
           public PsiReference @NotNull [] getReferencesByElement(@NotNull PsiElement element,
                                                                  @NotNull ProcessingContext context) {
             PsiLiteralExpression literalExpression = (PsiLiteralExpression) element;
-            String value = literalExpression.getValue() instanceof String ?
-                (String) literalExpression.getValue() : null;
-            if ((value != null && value.startsWith(SIMPLE_PREFIX_STR + SIMPLE_SEPARATOR_STR))) {
-              TextRange property = new TextRange(SIMPLE_PREFIX_STR.length() + SIMPLE_SEPARATOR_STR.length() + 1,
-                  value.length() + 1);
-              return new PsiReference[]{new SimpleReference(element, property)};
-            }
-            return PsiReference.EMPTY_ARRAY;
+            // the same reference instance is returned until the literal changes, so its ResolveCache entry is reused
+            return CachedValuesManager.getCachedValue(literalExpression, () ->
+                CachedValueProvider.Result.create(createReferences(literalExpression), literalExpression));
           }
         });
   }
 
+  private static PsiReference @NotNull [] createReferences(@NotNull PsiLiteralExpression literalExpression) {
+    TextRange range = getKeyRange(literalExpression);
+    if (range == null) {
+      return PsiReference.EMPTY_ARRAY;
+    }
+    StringBuilder key = new StringBuilder();
+    if (!CodeInsightUtilCore.parseStringCharacters(range.substring(literalExpression.getText()), key, null)) {
+      return PsiReference.EMPTY_ARRAY;
+    }
+    // the key is the whole rest of the value, so its range covers all of its raw text, escapes included
+    return new PsiReference[]{new SimpleReference(literalExpression, range, key.toString())};
+  }
+
+  /**
+   * @return the range of the key within a closed {@code "simple:key"} literal, or {@code null} for any other literal
+   */
+  private static @Nullable TextRange getKeyRange(@NotNull PsiLiteralExpression literalExpression) {
+    ASTNode token = literalExpression.getNode().getFirstChildNode();
+    if (token == null || token.getElementType() != JavaTokenType.STRING_LITERAL) {
+      return null;
+    }
+    CharSequence text = token.getChars();
+    if (text.length() <= LITERAL_PREFIX.length() || text.charAt(text.length() - 1) != '"' ||
+        !StringUtil.startsWith(text, LITERAL_PREFIX)) {
+      return null;
+    }
+    return new TextRange(LITERAL_PREFIX.length(), text.length() - 1);
+  }
+
 }
@@ -0,0 +1,35 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.SearchScope;
+import com.intellij.refactoring.rename.RenamePsiElementProcessor;
+import org.intellij.sdk.language.psi.SimpleProperty;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Collects the references to rename from {@link SimpleUsageIndex}, see {@link SimpleFindUsagesHandlerFactory}.
+ */
+final class SimpleRenamePsiElementProcessor extends RenamePsiElementProcessor {
+
+  @Override
+  public boolean canProcessElement(@NotNull PsiElement element) {
+    return element instanceof SimpleProperty;
+  }
+
+  @Override
+  public @NotNull Collection<PsiReference> findReferences(@NotNull PsiElement element,
+                                                          @NotNull SearchScope searchScope,
+                                                          boolean searchInCommentsAndStrings) {
+    if (!(searchScope instanceof GlobalSearchScope scope)) {
+      return super.findReferences(element, searchScope, searchInCommentsAndStrings);
+    }
+    return SimpleUtil.findReferences(element.getProject(), ((SimpleProperty) element).getKey(), scope);
+  }
+
+}
@@ -0,0 +1,240 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.ide.actions.searcheverywhere.FoundItemDescriptor;
+import com.intellij.ide.actions.searcheverywhere.SearchEverywhereContributor;
+import com.intellij.ide.actions.searcheverywhere.SearchEverywhereContributorFactory;
+import com.intellij.ide.actions.searcheverywhere.WeightedSearchEverywhereContributor;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.fileEditor.OpenFileDescriptor;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.SingleRootFileViewProvider;
+import com.intellij.psi.codeStyle.MinusculeMatcher;
+import com.intellij.psi.codeStyle.NameUtil;
+import com.intellij.psi.search.FileTypeIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.ui.ColoredListCellRenderer;
+import com.intellij.ui.SimpleTextAttributes;
+import com.intellij.util.Processor;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import org.intellij.sdk.language.psi.SimpleProperty;
+import org.intellij.sdk.language.psi.SimplePropertyStub;
+import org.intellij.sdk.language.psi.impl.SimplePsiImplUtil;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Search Everywhere tab for Simple properties.
+ * <p>
+ * Keys are matched fuzzily, by camel humps and by dotted segments, against the names of {@link SimpleKeyIndex} and
+ * {@link SimpleLargeFileKeyIndex}. They are reported as soon as they match, built from the stub or from the stored
+ * offset, and Search Everywhere sorts each page by the matching degree.
+ * <p>
+ * Values are then matched with the same matcher in the files that contain the literal fragments of the pattern
+ * according to {@link SimpleTrigramIndex}, see {@link SimpleTrigramIndex#getFragmentTrigrams}. A pattern without
+ * fragments of three characters, such as the camel humps {@code SiAp}, has no trigram to filter by, so all Simple files
+ * are candidates, except those too large for code insight, which would be lexed again on every keystroke. A lower
+ * case pattern that skips from one word of a value to the next, such as {@code simpapp} for "Simple Application", is
+ * only found in keys. Candidate files are lexed one at a time, after all key matches, and nothing is kept between
+ * them.
+ * <p>
+ * Search Everywhere pages the results by stopping the consumer, and cancels the search on typing through the
+ * indicator, which is checked for every key and file. A write action interrupts the search, which then starts over
+ * and skips the matches already reported.
+ */
+final class SimpleSearchEverywhereContributor implements WeightedSearchEverywhereContributor<SimpleValueSearch.Match> {
+
+  private static final int MAX_VALUE_LENGTH = 80;
+
+  private final Project myProject;
+
+  SimpleSearchEverywhereContributor(@NotNull Project project) {
+    myProject = project;
+  }
+
+  @Override
+  public @NotNull String getSearchProviderId() {
+    return SimpleSearchEverywhereContributor.class.getSimpleName();
+  }
+
+  @Override
+  public @NotNull String getGroupName() {
+    return "Simple Properties";
+  }
+
+  @Override
+  public int getSortWeight() {
+    return 500;
+  }
+
+  @Override
+  public boolean showInFindResults() {
+    return false;
+  }
+
+  @Override
+  public boolean isShownInSeparateTab() {
+    return true;
+  }
+
+  @Override
+  public void fetchWeightedElements(@NotNull String pattern,
+                                    @NotNull ProgressIndicator progressIndicator,
+                                    @NotNull Processor<? super FoundItemDescriptor<SimpleValueSearch.Match>> consumer) {
+    if (StringUtil.isEmptyOrSpaces(pattern)) {
+      return;
+    }
+    // a write action cancels the read action, so start over after it without reporting the same match twice
+    Set<SimpleValueSearch.Match> reported = new HashSet<>();
+    Processor<FoundItemDescriptor<SimpleValueSearch.Match>> newMatchConsumer =
+        descriptor -> !reported.add(descriptor.getItem()) || consumer.process(descriptor);
+    do {
+      progressIndicator.checkCanceled();
+      ProgressIndicatorUtils.yieldToPendingWriteActions();
+    }
+    while (!ProgressIndicatorUtils.runInReadActionWithWriteActionPriority(
+        () -> processMatches(myProject, pattern, GlobalSearchScope.allScope(myProject), newMatchConsumer),
+        progressIndicator));
+  }
+
+  /**
+   * Passes the properties whose key or value matches the pattern to the consumer, weighted by the matching degree.
+   * Key matches come first, in index order, and each property is reported at most once.
+   */
+  static void processMatches(@NotNull Project project,
+                             @NotNull String pattern,
+                             @NotNull GlobalSearchScope scope,
+                             @NotNull Processor<? super FoundItemDescriptor<SimpleValueSearch.Match>> consumer) {
+    MinusculeMatcher matcher = NameUtil.buildMatcher("*" + pattern)
+        .withCaseSensitivity(NameUtil.MatchingCaseSensitivity.NONE)
+        .withSeparators(".")
+        .build();
+
+    boolean proceed = StubIndex.getInstance().processAllKeys(SimpleKeyIndex.KEY, name -> {
+      ProgressManager.checkCanceled();
+      if (!matcher.matches(name)) {
+        return true;
+      }
+      int degree = matcher.matchingDegree(name);
+      return StubIndex.getInstance().processElements(SimpleKeyIndex.KEY, name, project, scope, SimpleProperty.class,
+          property -> consumer.process(new FoundItemDescriptor<>(createMatch(property, name), degree)));
+    }, scope, null);
+    if (!proceed) {
+      return;
+    }
+
+    LargeFileText largeFileText = new LargeFileText();
+    proceed = FileBasedIndex.getInstance().processAllKeys(SimpleLargeFileKeyIndex.NAME, name -> {
+      ProgressManager.checkCanceled();
+      if (!matcher.matches(name)) {
+        return true;
+      }
+      int degree = matcher.matchingDegree(name);
+      return FileBasedIndex.getInstance().processValues(SimpleLargeFileKeyIndex.NAME, name, null, (file, offset) -> {
+        String value = SimpleValueSearch.readValue(largeFileText.get(file), offset);
+        SimpleValueSearch.Match match = new SimpleValueSearch.Match(file, name, offset, value);
+        return consumer.process(new FoundItemDescriptor<>(match, degree));
+      }, scope);
+    }, scope, null);
+    if (!proceed) {
+      return;
+    }
+
+    Set<Integer> trigrams = SimpleTrigramIndex.getFragmentTrigrams(pattern);
+    // without trigrams every file is a candidate, leave the oversized ones, whose keys were matched above
+    Collection<VirtualFile> files = trigrams.isEmpty()
+                                    ? ContainerUtil.filter(FileTypeIndex.getFiles(SimpleFileType.INSTANCE, scope),
+                                        file -> !SingleRootFileViewProvider.isTooLargeForIntelligence(file))
+                                    : SimpleValueSearch.findCandidateFiles(trigrams, scope);
+    for (VirtualFile file : files) {
+      ProgressManager.checkCanceled();
+      proceed = SimpleValueSearch.processProperties(file, match -> {
+        // properties with a matching key were reported above
+        if (matcher.matches(match.key()) || !matcher.matches(match.value())) {
+          return true;
+        }
+        // a value match ranks below a key matching equally well
+        int weight = matcher.matchingDegree(match.value()) / 2;
+        return consumer.process(new FoundItemDescriptor<>(match, weight));
+      });
+      if (!proceed) {
+        return;
+      }
+    }
+  }
+
+  private static @NotNull SimpleValueSearch.Match createMatch(@NotNull SimpleProperty property, @NotNull String key) {
+    SimplePropertyStub stub = property.getStub();
+    String rawValue = stub != null ? stub.getValuePrefix() : StringUtil.notNullize(property.getValue());
+    return new SimpleValueSearch.Match(property.getContainingFile().getVirtualFile(), key, property.getTextOffset(),
+        SimplePsiImplUtil.decodeValue(rawValue));
+  }
+
+  /**
+   * Keeps the text of the last large file read, as its keys are usually reported one after another.
+   */
+  private static final class LargeFileText {
+
+    private VirtualFile myFile;
+    private CharSequence myText;
+
+    @NotNull CharSequence get(@NotNull VirtualFile file) {
+      if (!file.equals(myFile)) {
+        myFile = file;
+        myText = SimpleValueSearch.loadText(file);
+      }
+      return myText;
+    }
+
+  }
+
+  @Override
+  public boolean processSelectedItem(@NotNull SimpleValueSearch.Match selected,
+                                     int modifiers,
+                                     @NotNull String searchText) {
+    new OpenFileDescriptor(myProject, selected.file(), selected.offset()).navigate(true);
+    return true;
+  }
+
+  @Override
+  public @NotNull ListCellRenderer<? super SimpleValueSearch.Match> getElementsRenderer() {
+    return new ColoredListCellRenderer<SimpleValueSearch.Match>() {
+      @Override
+      protected void customizeCellRenderer(@NotNull JList<? extends SimpleValueSearch.Match> list,
+                                           SimpleValueSearch.Match match,
+                                           int index,
+                                           boolean selected,
+                                           boolean hasFocus) {
+        setIcon(SimpleIcons.FILE);
+        append(match.key());
+        String value = StringUtil.escapeStringCharacters(StringUtil.first(match.value(), MAX_VALUE_LENGTH, true));
+        append(" = " + value, SimpleTextAttributes.GRAYED_ATTRIBUTES);
+        append("  " + match.file().getName(), SimpleTextAttributes.GRAYED_SMALL_ATTRIBUTES);
+      }
+    };
+  }
+
+  static final class Factory implements SearchEverywhereContributorFactory<SimpleValueSearch.Match> {
+
+    @Override
+    public @NotNull SearchEverywhereContributor<SimpleValueSearch.Match> createContributor(
+        @NotNull AnActionEvent initEvent) {
+      return new SimpleSearchEverywhereContributor(initEvent.getRequiredData(CommonDataKeys.PROJECT));
+    }
+
+  }
+
+}
@@ -11,15 +11,19 @@ import com.intellij.psi.NavigatablePsiElement;
 import com.intellij.psi.util.PsiTreeUtil;
 import org.intellij.sdk.language.psi.SimpleFile;
 import org.intellij.sdk.language.psi.SimpleProperty;
-import org.intellij.sdk.language.psi.impl.SimplePropertyImpl;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Tree elements are cheap wrappers: the children of a file are its stub-backed properties, whose key, sort key and
+ * navigation offset are read from the stub while the file has no AST. Properties with dotted keys are nested under
+ * {@link SimpleNamespaceStructureViewElement}s, which create their children only when expanded.
+ */
 public class SimpleStructureViewElement implements StructureViewTreeElement, SortableTreeElement {
 
   private final NavigatablePsiElement myElement;
+  private String myAlphaSortKey;
 
   public SimpleStructureViewElement(NavigatablePsiElement element) {
     this.myElement = element;
@@ -48,8 +52,14 @@ public class SimpleStructureViewElement implements StructureViewTreeElement, Sor
   @NotNull
   @Override
   public String getAlphaSortKey() {
-    String name = myElement.getName();
-    return name != null ? name : "";
+    // queried for every comparison while sorting
+    String alphaSortKey = myAlphaSortKey;
+    if (alphaSortKey == null) {
+      String name = myElement.getName();
+      alphaSortKey = name != null ? name : "";
+      myAlphaSortKey = alphaSortKey;
+    }
+    return alphaSortKey;
   }
 
   @NotNull
@@ -62,12 +72,8 @@ public class SimpleStructureViewElement implements StructureViewTreeElement, Sor
   @Override
   public TreeElement @NotNull [] getChildren() {
     if (myElement instanceof SimpleFile) {
-      List<SimpleProperty> properties = PsiTreeUtil.getChildrenOfTypeAsList(myElement, SimpleProperty.class);
-      List<TreeElement> treeElements = new ArrayList<>(properties.size());
-      for (SimpleProperty property : properties) {
-        treeElements.add(new SimpleStructureViewElement((SimplePropertyImpl) property));
-      }
-      return treeElements.toArray(new TreeElement[0]);
+      List<SimpleProperty> properties = PsiTreeUtil.getStubChildrenOfTypeAsList(myElement, SimpleProperty.class);
+      return SimpleNamespaceStructureViewElement.createChildren("", properties);
     }
     return EMPTY_ARRAY;
   }
@@ -27,7 +27,8 @@ public class SimpleStructureViewModel extends StructureViewModelBase implements
 
   @Override
   public boolean isAlwaysShowsPlus(StructureViewTreeElement element) {
-    return false;
+    // namespaces are never empty, don't create their children just to know
+    return element instanceof SimpleNamespaceStructureViewElement;
   }
 
   @Override
@@ -0,0 +1,117 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.EnumeratorIntegerDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.intellij.sdk.language.psi.SimpleTypes;
+import org.intellij.sdk.language.psi.impl.SimplePsiImplUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * Maps the case-insensitive trigrams of all decoded Simple values to the files containing them.
+ * <p>
+ * A substring query is answered by intersecting the files of its trigrams, see {@link SimpleValueSearch}.
+ * Values are collected with {@link SimpleLexerAdapter}, also from files that are too large to get PSI.
+ */
+public final class SimpleTrigramIndex extends ScalarIndexExtension<Integer> {
+
+  public static final ID<Integer, Void> NAME = ID.create("org.intellij.sdk.language.SimpleTrigramIndex");
+
+  @Override
+  public @NotNull ID<Integer, Void> getName() {
+    return NAME;
+  }
+
+  @Override
+  public @NotNull DataIndexer<Integer, Void, FileContent> getIndexer() {
+    return inputData -> {
+      Map<Integer, Void> result = new HashMap<>();
+      Lexer lexer = new SimpleLexerAdapter();
+      lexer.start(inputData.getContentAsText());
+      while (lexer.getTokenType() != null) {
+        if (lexer.getTokenType() == SimpleTypes.VALUE) {
+          processTrigrams(SimplePsiImplUtil.decodeValue(lexer.getTokenText()), trigram -> result.put(trigram, null));
+        }
+        lexer.advance();
+      }
+      return result;
+    };
+  }
+
+  /**
+   * @return the trigrams of the text, empty if the text is shorter than three characters
+   */
+  public static @NotNull Set<Integer> getTrigrams(@NotNull CharSequence text) {
+    Set<Integer> trigrams = new HashSet<>();
+    processTrigrams(text, trigrams::add);
+    return trigrams;
+  }
+
+  /**
+   * Collects the trigrams of the literal fragments of a fuzzy search pattern, i.e. the parts that a match must contain
+   * as they are written. Fragments are separated by whitespace, dots and wildcards, and a new fragment starts at every
+   * upper case letter, as camel humps may match separate words. Fragments shorter than three characters add no trigram.
+   */
+  public static @NotNull Set<Integer> getFragmentTrigrams(@NotNull String pattern) {
+    Set<Integer> trigrams = new HashSet<>();
+    int start = 0;
+    for (int i = 0; i <= pattern.length(); i++) {
+      char c = i < pattern.length() ? pattern.charAt(i) : ' ';
+      boolean separator = Character.isWhitespace(c) || c == '.' || c == '*';
+      if (separator || Character.isUpperCase(c)) {
+        processTrigrams(pattern.subSequence(start, i), trigrams::add);
+        start = separator ? i + 1 : i;
+      }
+    }
+    return trigrams;
+  }
+
+  static void processTrigrams(@NotNull CharSequence text, @NotNull IntConsumer consumer) {
+    if (text.length() < 3) {
+      return;
+    }
+    char first = StringUtil.toLowerCase(text.charAt(0));
+    char second = StringUtil.toLowerCase(text.charAt(1));
+    for (int i = 2; i < text.length(); i++) {
+      char third = StringUtil.toLowerCase(text.charAt(i));
+      // collisions only add candidate files, which are filtered when they are scanned
+      consumer.accept((first * 31 + second) * 31 + third);
+      first = second;
+      second = third;
+    }
+  }
+
+  @Override
+  public @NotNull KeyDescriptor<Integer> getKeyDescriptor() {
+    return EnumeratorIntegerDescriptor.INSTANCE;
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  @Override
+  public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(SimpleFileType.INSTANCE);
+  }
+
+  @Override
+  public @NotNull Collection<FileType> getFileTypesWithSizeLimitNotApplicable() {
+    return Collections.singletonList(SimpleFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+}
@@ -0,0 +1,49 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.codeInspection.*;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.intellij.sdk.language.psi.SimpleFile;
+import org.intellij.sdk.language.psi.SimpleProperty;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reports Simple properties whose key isn't referenced by any {@code "simple:key"} literal in Java code.
+ * <p>
+ * The inspection framework checks the files of the analysis scope in parallel read actions. For each file,
+ * every distinct key costs one lookup in {@link SimpleUsageIndex}, no references are searched or resolved.
+ */
+final class SimpleUnusedPropertyInspection extends GlobalSimpleInspectionTool {
+
+  @Override
+  public void checkFile(@NotNull PsiFile file,
+                        @NotNull InspectionManager manager,
+                        @NotNull ProblemsHolder problemsHolder,
+                        @NotNull GlobalInspectionContext globalContext,
+                        @NotNull ProblemDescriptionsProcessor problemDescriptionsProcessor) {
+    if (!(file instanceof SimpleFile)) {
+      return;
+    }
+    Project project = file.getProject();
+    Map<String, Boolean> usedKeys = new HashMap<>();
+    for (SimpleProperty property : PsiTreeUtil.getStubChildrenOfTypeAsList(file, SimpleProperty.class)) {
+      String key = property.getKey();
+      if (key == null || usedKeys.computeIfAbsent(key, k -> SimpleUtil.hasReferences(project, k))) {
+        continue;
+      }
+      PsiElement nameIdentifier = property.getNameIdentifier();
+      problemsHolder.registerProblem(nameIdentifier != null ? nameIdentifier : property,
+          "Unused property '" + key + "'",
+          ProblemHighlightType.LIKE_UNUSED_SYMBOL,
+          new SimpleDeletePropertyQuickFix());
+    }
+  }
+
+}
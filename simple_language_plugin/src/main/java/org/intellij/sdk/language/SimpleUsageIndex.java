@@ -0,0 +1,125 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.codeInsight.CodeInsightUtilCore;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.lang.java.lexer.JavaLexer;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.pom.java.LanguageLevel;
+import com.intellij.psi.JavaTokenType;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+import static org.intellij.sdk.language.SimpleAnnotator.SIMPLE_PREFIX_STR;
+import static org.intellij.sdk.language.SimpleAnnotator.SIMPLE_SEPARATOR_STR;
+
+/**
+ * Maps every key referenced by a {@code "simple:key"} literal to the offsets of those literals in a Java file.
+ * <p>
+ * Files are scanned with {@link JavaLexer}, and only if their text contains the literal prefix at all.
+ */
+public final class SimpleUsageIndex extends FileBasedIndexExtension<String, List<Integer>> {
+
+  public static final ID<String, List<Integer>> NAME = ID.create("org.intellij.sdk.language.SimpleUsageIndex");
+
+  private static final String LITERAL_PREFIX = "\"" + SIMPLE_PREFIX_STR + SIMPLE_SEPARATOR_STR;
+
+  @Override
+  public @NotNull ID<String, List<Integer>> getName() {
+    return NAME;
+  }
+
+  @Override
+  public @NotNull DataIndexer<String, List<Integer>, FileContent> getIndexer() {
+    return inputData -> {
+      CharSequence text = inputData.getContentAsText();
+      if (StringUtil.indexOf(text, LITERAL_PREFIX) < 0) {
+        return Collections.emptyMap();
+      }
+      Map<String, List<Integer>> result = new HashMap<>();
+      Lexer lexer = new JavaLexer(LanguageLevel.HIGHEST);
+      lexer.start(text);
+      while (lexer.getTokenType() != null) {
+        if (lexer.getTokenType() == JavaTokenType.STRING_LITERAL &&
+            StringUtil.startsWith(text, lexer.getTokenStart(), LITERAL_PREFIX)) {
+          String key = getKey(text.subSequence(lexer.getTokenStart(), lexer.getTokenEnd()).toString());
+          if (key != null) {
+            result.computeIfAbsent(key, k -> new ArrayList<>()).add(lexer.getTokenStart());
+          }
+        }
+        lexer.advance();
+      }
+      return result;
+    };
+  }
+
+  /**
+   * Returns the key of a {@code "simple:key"} literal, unescaped the same way as the literal value, or {@code null} if
+   * the literal contains an illegal escape.
+   */
+  private static @Nullable String getKey(String literalText) {
+    int end = literalText.length() > LITERAL_PREFIX.length() && literalText.endsWith("\"") ?
+        literalText.length() - 1 : literalText.length();
+    StringBuilder key = new StringBuilder();
+    if (!CodeInsightUtilCore.parseStringCharacters(literalText.substring(LITERAL_PREFIX.length(), end), key, null)) {
+      return null;
+    }
+    return key.toString();
+  }
+
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @Override
+  public @NotNull DataExternalizer<List<Integer>> getValueExternalizer() {
+    return new DataExternalizer<>() {
+      @Override
+      public void save(@NotNull DataOutput out, List<Integer> offsets) throws IOException {
+        DataInputOutputUtil.writeINT(out, offsets.size());
+        for (int offset : offsets) {
+          DataInputOutputUtil.writeINT(out, offset);
+        }
+      }
+
+      @Override
+      public List<Integer> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        List<Integer> offsets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          offsets.add(DataInputOutputUtil.readINT(in));
+        }
+        return offsets;
+      }
+    };
+  }
+
+  @Override
+  public int getVersion() {
+    return 2;
+  }
+
+  @Override
+  public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+}
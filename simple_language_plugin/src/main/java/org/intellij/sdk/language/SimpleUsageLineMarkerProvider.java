@@ -0,0 +1,52 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
+import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.tree.TokenSet;
+import com.intellij.psi.util.PsiUtilCore;
+import com.intellij.util.containers.ContainerUtil;
+import org.intellij.sdk.language.psi.SimpleProperty;
+import org.intellij.sdk.language.psi.SimpleTypes;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Marks Simple properties that are referenced from Java code, with navigation to the referencing literals.
+ * Whether a key is referenced at all is answered by {@link SimpleUsageIndex}, the literals are only looked up
+ * when the gutter icon is used.
+ */
+final class SimpleUsageLineMarkerProvider extends RelatedItemLineMarkerProvider {
+
+  private static final TokenSet KEYS = TokenSet.create(SimpleTypes.KEY);
+
+  @Override
+  protected void collectNavigationMarkers(@NotNull PsiElement element,
+                                          @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result) {
+    if (!KEYS.contains(PsiUtilCore.getElementType(element)) ||
+        !(element.getParent() instanceof SimpleProperty property)) {
+      return;
+    }
+    Project project = element.getProject();
+    String key = property.getKey();
+    if (key == null || !SimpleUtil.hasReferences(project, key)) {
+      return;
+    }
+    NavigationGutterIconBuilder<PsiElement> builder =
+        NavigationGutterIconBuilder.create(SimpleIcons.FILE)
+            .setTargets(NotNullLazyValue.lazy(() -> ContainerUtil.map(
+                SimpleUtil.findReferences(project, key, GlobalSearchScope.projectScope(project)),
+                PsiReference::getElement)))
+            .setTooltipText("Navigate to Simple language property usages");
+    result.add(builder.createLineMarkerInfo(element));
+  }
+
+}
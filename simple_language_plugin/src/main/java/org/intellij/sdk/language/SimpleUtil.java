@@ -3,19 +3,24 @@
 package org.intellij.sdk.language;
 
 import com.google.common.collect.Lists;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.text.StringUtil;
-import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiComment;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiWhiteSpace;
-import com.intellij.psi.search.FileTypeIndex;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StubIndex;
 import com.intellij.psi.util.PsiTreeUtil;
-import org.intellij.sdk.language.psi.SimpleFile;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.FileBasedIndex;
 import org.intellij.sdk.language.psi.SimpleProperty;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -23,47 +28,108 @@ public class SimpleUtil {
 
   /**
    * Searches the entire project for Simple language files with instances of the Simple property with the given key.
+   * Matching properties are taken from {@link SimpleKeyIndex} and are backed by stubs until their AST is needed.
    *
    * @param project current project
    * @param key     to check
    * @return matching properties
    */
   public static List<SimpleProperty> findProperties(Project project, String key) {
-    List<SimpleProperty> result = new ArrayList<>();
-    Collection<VirtualFile> virtualFiles =
-        FileTypeIndex.getFiles(SimpleFileType.INSTANCE, GlobalSearchScope.allScope(project));
-    for (VirtualFile virtualFile : virtualFiles) {
-      SimpleFile simpleFile = (SimpleFile) PsiManager.getInstance(project).findFile(virtualFile);
-      if (simpleFile != null) {
-        SimpleProperty[] properties = PsiTreeUtil.getChildrenOfType(simpleFile, SimpleProperty.class);
-        if (properties != null) {
-          for (SimpleProperty property : properties) {
-            if (key.equals(property.getKey())) {
-              result.add(property);
-            }
-          }
-        }
+    return new ArrayList<>(StubIndex.getElements(SimpleKeyIndex.KEY, key, project,
+        GlobalSearchScope.allScope(project), SimpleProperty.class));
+  }
+
+  /**
+   * Searches the Simple files that are too large to get PSI for definitions of the given key.
+   * Such files are covered by {@link SimpleLargeFileKeyIndex} instead of {@link SimpleKeyIndex}.
+   *
+   * @param project current project
+   * @param key     to check
+   * @return one lightweight element per file defining the key
+   */
+  public static List<SimpleLargeFileProperty> findLargeFileProperties(Project project, String key) {
+    List<SimpleLargeFileProperty> result = new ArrayList<>();
+    FileBasedIndex.getInstance().processValues(SimpleLargeFileKeyIndex.NAME, key, null, (file, offset) -> {
+      result.add(new SimpleLargeFileProperty(project, file, key, offset));
+      return true;
+    }, GlobalSearchScope.allScope(project));
+    return result;
+  }
+
+  /**
+   * Returns the subset of the given keys that are defined by at least one Simple property in the project.
+   * Each distinct key costs a single index lookup and no AST is loaded.
+   */
+  public static Set<String> findDefinedKeys(Project project, Collection<String> keys) {
+    GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+    Set<String> result = new HashSet<>();
+    for (String key : keys) {
+      ProgressManager.checkCanceled();
+      if (isKeyDefined(project, key, scope)) {
+        result.add(key);
       }
     }
     return result;
   }
 
-  public static List<SimpleProperty> findProperties(Project project) {
-    List<SimpleProperty> result = new ArrayList<>();
-    Collection<VirtualFile> virtualFiles =
-        FileTypeIndex.getFiles(SimpleFileType.INSTANCE, GlobalSearchScope.allScope(project));
-    for (VirtualFile virtualFile : virtualFiles) {
-      SimpleFile simpleFile = (SimpleFile) PsiManager.getInstance(project).findFile(virtualFile);
-      if (simpleFile != null) {
-        SimpleProperty[] properties = PsiTreeUtil.getChildrenOfType(simpleFile, SimpleProperty.class);
-        if (properties != null) {
-          Collections.addAll(result, properties);
+  /**
+   * Checks whether a Simple property with the given key exists in the scope, stopping at the first match.
+   */
+  public static boolean isKeyDefined(Project project, String key, GlobalSearchScope scope) {
+    return !StubIndex.getInstance().processElements(SimpleKeyIndex.KEY, key, project, scope,
+        SimpleProperty.class, property -> false) ||
+           !FileBasedIndex.getInstance().processValues(SimpleLargeFileKeyIndex.NAME, key, null,
+               (file, offset) -> false, scope);
+  }
+
+  /**
+   * Returns the references to the given key from {@code "simple:key"} literals in Java files of the scope.
+   * Only the literals recorded by {@link SimpleUsageIndex} are visited.
+   */
+  public static List<PsiReference> findReferences(Project project, String key, GlobalSearchScope scope) {
+    List<PsiReference> result = new ArrayList<>();
+    PsiManager psiManager = PsiManager.getInstance(project);
+    FileBasedIndex.getInstance().processValues(SimpleUsageIndex.NAME, key, null, (file, offsets) -> {
+      PsiFile psiFile = psiManager.findFile(file);
+      if (psiFile == null) {
+        return true;
+      }
+      for (int offset : offsets) {
+        PsiLiteralExpression literalExpression =
+            PsiTreeUtil.getParentOfType(psiFile.findElementAt(offset), PsiLiteralExpression.class, false);
+        // the index may be behind uncommitted documents, so check the literal still references the key
+        if (literalExpression != null && key.equals(getReferencedKey(literalExpression))) {
+          ContainerUtil.addIfNotNull(result,
+              ContainerUtil.findInstance(literalExpression.getReferences(), SimpleReference.class));
         }
       }
-    }
+      return true;
+    }, scope);
     return result;
   }
 
+  /**
+   * Checks whether any Java file of the project contains a {@code "simple:key"} literal for the given key.
+   */
+  public static boolean hasReferences(Project project, String key) {
+    return !FileBasedIndex.getInstance().processValues(SimpleUsageIndex.NAME, key, null,
+        (file, offsets) -> false, GlobalSearchScope.projectScope(project));
+  }
+
+  /**
+   * Returns the key referenced by a Java string literal of the form {@code "simple:key"}.
+   *
+   * @return the key, or {@code null} if the literal doesn't reference a Simple property
+   */
+  public static @Nullable String getReferencedKey(PsiLiteralExpression literalExpression) {
+    String value = literalExpression.getValue() instanceof String ? (String) literalExpression.getValue() : null;
+    if (value == null ||
+        !value.startsWith(SimpleAnnotator.SIMPLE_PREFIX_STR + SimpleAnnotator.SIMPLE_SEPARATOR_STR)) {
+      return null;
+    }
+    return value.substring(SimpleAnnotator.SIMPLE_PREFIX_STR.length() + SimpleAnnotator.SIMPLE_SEPARATOR_STR.length());
+  }
+
   /**
    * Attempts to collect any comment elements above the Simple key/value pair.
    */
@@ -0,0 +1,128 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.fileEditor.impl.LoadTextUtil;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.Processor;
+import com.intellij.util.indexing.FileBasedIndex;
+import org.intellij.sdk.language.psi.SimpleTypes;
+import org.intellij.sdk.language.psi.impl.SimplePsiImplUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds Simple properties by a substring of their decoded value, without PSI.
+ * <p>
+ * The candidate files are the ones containing all trigrams of the query in {@link SimpleTrigramIndex}. Only those
+ * files are lexed to check the values. Queries shorter than {@link #MIN_QUERY_LENGTH} have no trigram and find nothing.
+ */
+public final class SimpleValueSearch {
+
+  public static final int MIN_QUERY_LENGTH = 3;
+
+  /**
+   * A property found by a search.
+   *
+   * @param offset offset of the key in the file
+   * @param value  decoded value, only its first characters when the match was built from {@link SimpleKeyIndex} stubs
+   */
+  public record Match(@NotNull VirtualFile file, @NotNull String key, int offset, @NotNull String value) {
+  }
+
+  private SimpleValueSearch() {
+  }
+
+  /**
+   * Passes every property of the scope whose decoded value contains the query, ignoring case, to the processor.
+   *
+   * @return {@code false} if the processor stopped the search
+   */
+  public static boolean processMatches(@NotNull Project project,
+                                       @NotNull String query,
+                                       @NotNull GlobalSearchScope scope,
+                                       @NotNull Processor<? super Match> processor) {
+    Set<Integer> trigrams = SimpleTrigramIndex.getTrigrams(query);
+    if (trigrams.isEmpty()) {
+      return true;
+    }
+    for (VirtualFile file : findCandidateFiles(trigrams, scope)) {
+      ProgressManager.checkCanceled();
+      boolean proceed = processProperties(file, match ->
+          !StringUtil.containsIgnoreCase(match.value(), query) || processor.process(match));
+      if (!proceed) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the files of the scope whose values contain all given trigrams
+   */
+  static @NotNull List<VirtualFile> findCandidateFiles(@NotNull Set<Integer> trigrams, @NotNull GlobalSearchScope scope) {
+    List<VirtualFile> files = new ArrayList<>();
+    FileBasedIndex.getInstance().getFilesWithKey(SimpleTrigramIndex.NAME, trigrams, files::add, scope);
+    return files;
+  }
+
+  /**
+   * Lexes the file and passes all of its properties to the processor.
+   *
+   * @return {@code false} if the processor stopped
+   */
+  static boolean processProperties(@NotNull VirtualFile file, @NotNull Processor<? super Match> processor) {
+    CharSequence text = loadText(file);
+    Lexer lexer = new SimpleLexerAdapter();
+    lexer.start(text);
+    String key = null;
+    int keyOffset = 0;
+    while (lexer.getTokenType() != null) {
+      if (lexer.getTokenType() == SimpleTypes.KEY) {
+        key = SimplePsiImplUtil.unescapeKey(lexer.getTokenText());
+        keyOffset = lexer.getTokenStart();
+      } else if (lexer.getTokenType() == SimpleTypes.VALUE && key != null) {
+        if (!processor.process(new Match(file, key, keyOffset, SimplePsiImplUtil.decodeValue(lexer.getTokenText())))) {
+          return false;
+        }
+        key = null;
+      }
+      lexer.advance();
+    }
+    return true;
+  }
+
+  /**
+   * Lexes only the property whose key starts at the given offset, e.g. one stored in {@link SimpleLargeFileKeyIndex}.
+   *
+   * @return the decoded value, empty if the property has no value
+   */
+  static @NotNull String readValue(@NotNull CharSequence text, int keyOffset) {
+    Lexer lexer = new SimpleLexerAdapter();
+    lexer.start(text, keyOffset, text.length(), SimpleLexer.YYINITIAL);
+    lexer.advance();
+    while (lexer.getTokenType() != null && lexer.getTokenType() != SimpleTypes.KEY) {
+      if (lexer.getTokenType() == SimpleTypes.VALUE) {
+        return SimplePsiImplUtil.decodeValue(lexer.getTokenText());
+      }
+      lexer.advance();
+    }
+    return "";
+  }
+
+  static @NotNull CharSequence loadText(@NotNull VirtualFile file) {
+    Document document = FileDocumentManager.getInstance().getCachedDocument(file);
+    return document != null ? document.getImmutableCharSequence() : LoadTextUtil.loadText(file);
+  }
+
+}
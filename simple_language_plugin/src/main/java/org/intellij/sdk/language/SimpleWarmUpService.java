@@ -0,0 +1,125 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.registry.Registry;
+import com.intellij.platform.diagnostic.telemetry.Scope;
+import com.intellij.platform.diagnostic.telemetry.TelemetryManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warms up the Simple caches in the background once the project is in smart mode, so the first Java file opened
+ * doesn't pay for loading them.
+ * <p>
+ * For every key referenced from Java code, the warm-up runs the same key and usage index lookups as highlighting and
+ * stores the folding placeholder in the project-wide cache of {@link SimpleFoldingBuilder}, which is kept until the
+ * next Simple change. Placeholders are read from the stubs, so no Simple file is parsed: values too long for the
+ * stub are left to the first folding pass, and the cache holds at most one short string per referenced key.
+ * <p>
+ * The warm-up runs in a cancellable non-blocking read action and stops when the budget of the
+ * {@code simple.warmup.budget.ms} registry key is spent. Its duration and the number of keys warmed up are logged,
+ * kept for diagnostics and recorded as OpenTelemetry metrics of the {@code simple} scope.
+ */
+@Service(Service.Level.PROJECT)
+public final class SimpleWarmUpService implements Disposable {
+
+  private static final Logger LOG = Logger.getInstance(SimpleWarmUpService.class);
+
+  static final String BUDGET_REGISTRY_KEY = "simple.warmup.budget.ms";
+
+  private static final Meter METER = TelemetryManager.getInstance().getMeter(new Scope("simple", null));
+  private static final LongHistogram WARM_UP_DURATION =
+      METER.histogramBuilder("simple.warmup.duration").ofLongs().setUnit("ms").build();
+  private static final LongCounter WARM_UP_KEYS = METER.counterBuilder("simple.warmup.keys").build();
+
+  private final Project myProject;
+  private volatile long myWarmUpMillis = -1;
+  private volatile int myWarmUpKeyCount;
+
+  public SimpleWarmUpService(@NotNull Project project) {
+    myProject = project;
+  }
+
+  public static SimpleWarmUpService getInstance(@NotNull Project project) {
+    return project.getService(SimpleWarmUpService.class);
+  }
+
+  void scheduleWarmUp() {
+    if (getBudgetMillis() <= 0) {
+      return;
+    }
+    ReadAction.nonBlocking(this::warmUp)
+        .inSmartMode(myProject)
+        .expireWith(this)
+        .submit(AppExecutorUtil.getAppExecutorService());
+  }
+
+  /**
+   * @return the number of referenced keys whose folding placeholder was cached within the budget
+   */
+  int warmUp() {
+    long start = System.nanoTime();
+    long deadline = start + TimeUnit.MILLISECONDS.toNanos(getBudgetMillis());
+
+    List<String> referencedKeys = new ArrayList<>();
+    FileBasedIndex.getInstance().processAllKeys(SimpleUsageIndex.NAME,
+        key -> referencedKeys.add(key) && System.nanoTime() <= deadline, myProject);
+    GlobalSearchScope scope = GlobalSearchScope.allScope(myProject);
+    int keyCount = 0;
+    for (String key : referencedKeys) {
+      ProgressManager.checkCanceled();
+      if (System.nanoTime() > deadline) {
+        break;
+      }
+      // the index reports all keys ever seen, only warm up those still referenced
+      if (SimpleUtil.hasReferences(myProject, key) && SimpleUtil.isKeyDefined(myProject, key, scope)) {
+        if (SimpleFoldingBuilder.cachePlaceholderFromStub(myProject, key)) {
+          keyCount++;
+        }
+      }
+    }
+
+    myWarmUpKeyCount = keyCount;
+    myWarmUpMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    LOG.info("Simple caches warmed up in " + myWarmUpMillis + " ms (" + keyCount + " referenced keys)");
+    WARM_UP_DURATION.record(myWarmUpMillis);
+    WARM_UP_KEYS.add(keyCount);
+    return keyCount;
+  }
+
+  /**
+   * @return the duration of the last completed warm-up, or -1 if none has completed yet
+   */
+  public long getWarmUpMillis() {
+    return myWarmUpMillis;
+  }
+
+  public int getWarmUpKeyCount() {
+    return myWarmUpKeyCount;
+  }
+
+  private static int getBudgetMillis() {
+    return Registry.intValue(BUDGET_REGISTRY_KEY, 2000);
+  }
+
+  @Override
+  public void dispose() {
+  }
+
+}
@@ -0,0 +1,30 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language.psi;
+
+import com.intellij.psi.stubs.PsiFileStub;
+import com.intellij.psi.tree.IStubFileElementType;
+import org.intellij.sdk.language.SimpleLanguage;
+import org.jetbrains.annotations.NotNull;
+
+public class SimpleFileElementType extends IStubFileElementType<PsiFileStub<SimpleFile>> {
+
+  public SimpleFileElementType() {
+    super("SIMPLE_FILE", SimpleLanguage.INSTANCE);
+  }
+
+  /**
+   * Must be incremented whenever the stub tree or its serialization changes.
+   */
+  @Override
+  public int getStubVersion() {
+    return 1;
+  }
+
+  @NotNull
+  @Override
+  public String getExternalId() {
+    return "simple.FILE";
+  }
+
+}
@@ -0,0 +1,35 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language.psi;
+
+import com.intellij.psi.stubs.StubElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compact representation of a {@link SimpleProperty} stored in the stub tree, so that lookups, presentation and
+ * navigation don't need to load the AST of the containing file.
+ */
+public interface SimplePropertyStub extends StubElement<SimpleProperty> {
+
+  /**
+   * @return text of the KEY token as written in the file, or {@code null} if the property has no key
+   */
+  @Nullable String getRawKey();
+
+  /**
+   * @return key with escaped spaces converted to simple spaces, or {@code null} if the property has no key
+   */
+  @Nullable String getKey();
+
+  /**
+   * @return the first characters of the raw value, empty if the property has no value
+   */
+  @NotNull String getValuePrefix();
+
+  /**
+   * @return start offset of the property in its file
+   */
+  int getOffset();
+
+}
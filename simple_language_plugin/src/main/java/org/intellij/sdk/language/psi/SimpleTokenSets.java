@@ -10,4 +10,6 @@ public interface SimpleTokenSets {
 
   TokenSet COMMENTS = TokenSet.create(SimpleTypes.COMMENT);
 
+  TokenSet REPARSEABLE_LEAVES = TokenSet.create(SimpleTypes.KEY, SimpleTypes.VALUE, SimpleTypes.COMMENT);
+
 }
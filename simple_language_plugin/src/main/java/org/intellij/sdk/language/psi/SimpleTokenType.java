@@ -2,17 +2,36 @@
 
 package org.intellij.sdk.language.psi;
 
+import com.intellij.lang.ASTFactory;
+import com.intellij.lang.ASTNode;
 import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.IReparseableLeafElementType;
 import org.intellij.sdk.language.SimpleLanguage;
+import org.intellij.sdk.language.SimpleLexerAdapter;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public class SimpleTokenType extends IElementType {
+/**
+ * Token type of the Simple language.
+ * <p>
+ * An edit inside a single KEY, VALUE or COMMENT token only relexes that token, instead of reparsing the whole file,
+ * as long as the new text still forms one token of the same type.
+ */
+public class SimpleTokenType extends IElementType implements IReparseableLeafElementType<ASTNode> {
 
   public SimpleTokenType(@NotNull @NonNls String debugName) {
     super(debugName, SimpleLanguage.INSTANCE);
   }
 
+  @Override
+  public @Nullable ASTNode reparseLeaf(@NotNull ASTNode leaf, @NotNull CharSequence newText) {
+    if (!SimpleTokenSets.REPARSEABLE_LEAVES.contains(this) || !SimpleLexerAdapter.isSingleToken(newText, this)) {
+      return null;
+    }
+    return ASTFactory.leaf(this, newText);
+  }
+
   @Override
   public String toString() {
     return "SimpleTokenType." + super.toString();
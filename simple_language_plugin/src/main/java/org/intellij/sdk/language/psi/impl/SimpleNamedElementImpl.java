@@ -2,15 +2,68 @@
 
 package org.intellij.sdk.language.psi.impl;
 
-import com.intellij.extapi.psi.ASTWrapperPsiElement;
+import com.intellij.extapi.psi.StubBasedPsiElementBase;
 import com.intellij.lang.ASTNode;
+import com.intellij.psi.stubs.IStubElementType;
 import org.intellij.sdk.language.psi.SimpleNamedElement;
+import org.intellij.sdk.language.psi.SimplePropertyStub;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public abstract class SimpleNamedElementImpl extends ASTWrapperPsiElement implements SimpleNamedElement {
+public abstract class SimpleNamedElementImpl extends StubBasedPsiElementBase<SimplePropertyStub>
+    implements SimpleNamedElement {
+
+  /**
+   * Unescaped key read from the AST, see {@link SimplePsiImplUtil#getKey}. Dropped whenever the element changes.
+   */
+  private volatile String myKey;
+
+  /**
+   * Value with all escapes decoded, see {@link SimplePsiImplUtil#getDecodedValue}. Dropped whenever the element changes.
+   */
+  private volatile String myDecodedValue;
 
   public SimpleNamedElementImpl(@NotNull ASTNode node) {
     super(node);
   }
 
+  public SimpleNamedElementImpl(@NotNull SimplePropertyStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
+
+  @Override
+  public int getTextOffset() {
+    // avoid loading the AST just to navigate to the element
+    SimplePropertyStub stub = getStub();
+    return stub != null ? stub.getOffset() : super.getTextOffset();
+  }
+
+  @Nullable String getCachedKey() {
+    return myKey;
+  }
+
+  void cacheKey(@Nullable String key) {
+    myKey = key;
+  }
+
+  @Nullable String getCachedDecodedValue() {
+    return myDecodedValue;
+  }
+
+  void cacheDecodedValue(@Nullable String decodedValue) {
+    myDecodedValue = decodedValue;
+  }
+
+  @Override
+  public void subtreeChanged() {
+    myKey = null;
+    myDecodedValue = null;
+    super.subtreeChanged();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "(" + getElementType() + ")";
+  }
+
 }
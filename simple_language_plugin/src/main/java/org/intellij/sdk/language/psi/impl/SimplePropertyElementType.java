@@ -0,0 +1,81 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language.psi.impl;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.psi.stubs.*;
+import org.intellij.sdk.language.SimpleKeyIndex;
+import org.intellij.sdk.language.SimpleLanguage;
+import org.intellij.sdk.language.SimpleNamespaceIndex;
+import org.intellij.sdk.language.psi.SimpleProperty;
+import org.intellij.sdk.language.psi.SimplePropertyStub;
+import org.intellij.sdk.language.psi.SimpleTypes;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public class SimplePropertyElementType extends IStubElementType<SimplePropertyStub, SimpleProperty> {
+
+  /**
+   * Maximum number of value characters kept in the stub for presentation purposes.
+   */
+  public static final int VALUE_PREFIX_LENGTH = 100;
+
+  public SimplePropertyElementType(@NotNull @NonNls String debugName) {
+    super(debugName, SimpleLanguage.INSTANCE);
+  }
+
+  @Override
+  public SimpleProperty createPsi(@NotNull SimplePropertyStub stub) {
+    return new SimplePropertyImpl(stub, this);
+  }
+
+  @NotNull
+  @Override
+  public SimplePropertyStub createStub(@NotNull SimpleProperty psi, StubElement parentStub) {
+    ASTNode keyNode = psi.getNode().findChildByType(SimpleTypes.KEY);
+    String rawKey = keyNode != null ? keyNode.getText() : null;
+    String key = rawKey != null ? SimplePsiImplUtil.unescapeKey(rawKey) : null;
+    String value = psi.getValue();
+    String valuePrefix = value == null ? "" :
+        value.length() > VALUE_PREFIX_LENGTH ? value.substring(0, VALUE_PREFIX_LENGTH) : value;
+    return new SimplePropertyStubImpl(parentStub, this, rawKey, key, valuePrefix, psi.getTextRange().getStartOffset());
+  }
+
+  @NotNull
+  @Override
+  public String getExternalId() {
+    return "simple." + super.toString();
+  }
+
+  @Override
+  public void serialize(@NotNull SimplePropertyStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+    dataStream.writeName(stub.getRawKey());
+    dataStream.writeName(stub.getKey());
+    dataStream.writeUTFFast(stub.getValuePrefix());
+    dataStream.writeVarInt(stub.getOffset());
+  }
+
+  @NotNull
+  @Override
+  public SimplePropertyStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    String rawKey = dataStream.readNameString();
+    String key = dataStream.readNameString();
+    String valuePrefix = dataStream.readUTFFast();
+    int offset = dataStream.readVarInt();
+    return new SimplePropertyStubImpl(parentStub, this, rawKey, key, valuePrefix, offset);
+  }
+
+  @Override
+  public void indexStub(@NotNull SimplePropertyStub stub, @NotNull IndexSink sink) {
+    String key = stub.getKey();
+    if (key != null) {
+      sink.occurrence(SimpleKeyIndex.KEY, key);
+      for (String namespace : SimpleNamespaceIndex.getNamespaces(key)) {
+        sink.occurrence(SimpleNamespaceIndex.KEY, namespace);
+      }
+    }
+  }
+
+}
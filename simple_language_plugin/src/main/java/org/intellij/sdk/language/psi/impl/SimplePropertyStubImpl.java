@@ -0,0 +1,53 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language.psi.impl;
+
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.intellij.sdk.language.psi.SimpleProperty;
+import org.intellij.sdk.language.psi.SimplePropertyStub;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class SimplePropertyStubImpl extends StubBase<SimpleProperty> implements SimplePropertyStub {
+
+  private final String myRawKey;
+  private final String myKey;
+  private final String myValuePrefix;
+  private final int myOffset;
+
+  public SimplePropertyStubImpl(StubElement<?> parent,
+                                IStubElementType<?, ?> elementType,
+                                @Nullable String rawKey,
+                                @Nullable String key,
+                                @NotNull String valuePrefix,
+                                int offset) {
+    super(parent, elementType);
+    myRawKey = rawKey;
+    myKey = key;
+    myValuePrefix = valuePrefix;
+    myOffset = offset;
+  }
+
+  @Override
+  public @Nullable String getRawKey() {
+    return myRawKey;
+  }
+
+  @Override
+  public @Nullable String getKey() {
+    return myKey;
+  }
+
+  @Override
+  public @NotNull String getValuePrefix() {
+    return myValuePrefix;
+  }
+
+  @Override
+  public int getOffset() {
+    return myOffset;
+  }
+
+}
@@ -8,6 +8,7 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import org.intellij.sdk.language.psi.SimpleElementFactory;
 import org.intellij.sdk.language.psi.SimpleProperty;
+import org.intellij.sdk.language.psi.SimplePropertyStub;
 import org.intellij.sdk.language.psi.SimpleTypes;
 import org.jetbrains.annotations.Nullable;
 
@@ -16,15 +17,47 @@ import javax.swing.*;
 public class SimplePsiImplUtil {
 
   public static String getKey(SimpleProperty element) {
+    SimplePropertyStub stub = element.getStub();
+    if (stub != null) {
+      return stub.getKey();
+    }
+    SimpleNamedElementImpl namedElement = element instanceof SimpleNamedElementImpl impl ? impl : null;
+    String cachedKey = namedElement != null ? namedElement.getCachedKey() : null;
+    if (cachedKey != null) {
+      return cachedKey;
+    }
     ASTNode keyNode = element.getNode().findChildByType(SimpleTypes.KEY);
     if (keyNode != null) {
-      // IMPORTANT: Convert embedded escaped spaces to simple spaces
-      return keyNode.getText().replaceAll("\\\\ ", " ");
+      String key = unescapeKey(keyNode.getText());
+      if (namedElement != null) {
+        namedElement.cacheKey(key);
+      }
+      return key;
     } else {
       return null;
     }
   }
 
+  /**
+   * Converts the raw text of a KEY token to the key used for lookups.
+   * Returns the given string itself when it contains no escaped space.
+   */
+  public static String unescapeKey(String keyText) {
+    // IMPORTANT: Convert embedded escaped spaces to simple spaces
+    int escape = keyText.indexOf("\\ ");
+    if (escape < 0) {
+      return keyText;
+    }
+    StringBuilder sb = new StringBuilder(keyText.length() - 1);
+    int start = 0;
+    while (escape >= 0) {
+      sb.append(keyText, start, escape).append(' ');
+      start = escape + 2;
+      escape = keyText.indexOf("\\ ", start);
+    }
+    return sb.append(keyText, start, keyText.length()).toString();
+  }
+
   public static String getValue(SimpleProperty element) {
     ASTNode valueNode = element.getNode().findChildByType(SimpleTypes.VALUE);
     if (valueNode != null) {
@@ -34,6 +67,102 @@ public class SimplePsiImplUtil {
     }
   }
 
+  /**
+   * Returns the value with all escapes decoded, or {@code null} if the property has no value.
+   */
+  public static String getDecodedValue(SimpleProperty element) {
+    SimpleNamedElementImpl namedElement = element instanceof SimpleNamedElementImpl impl ? impl : null;
+    String cachedValue = namedElement != null ? namedElement.getCachedDecodedValue() : null;
+    if (cachedValue != null) {
+      return cachedValue;
+    }
+    String value = element.getValue();
+    if (value == null) {
+      return null;
+    }
+    String decodedValue = decodeValue(value);
+    if (namedElement != null) {
+      namedElement.cacheDecodedValue(decodedValue);
+    }
+    return decodedValue;
+  }
+
+  /**
+   * Decodes the raw text of a VALUE token in a single pass, following the rules of {@code .properties} files:
+   * <ul>
+   *   <li><code>&#92;uXXXX</code> is replaced by the given character, malformed sequences are kept as is</li>
+   *   <li>{@code \t}, {@code \n}, {@code \r} and {@code \f} are replaced by the control character</li>
+   *   <li>a backslash at the end of a line joins the next line, without its leading whitespace</li>
+   *   <li>any other escaped character is replaced by the character itself</li>
+   * </ul>
+   * Returns the given string itself when it contains no backslash.
+   */
+  public static String decodeValue(String valueText) {
+    int backslash = valueText.indexOf('\\');
+    if (backslash < 0) {
+      return valueText;
+    }
+    int length = valueText.length();
+    StringBuilder sb = new StringBuilder(length);
+    sb.append(valueText, 0, backslash);
+    int i = backslash;
+    while (i < length) {
+      char c = valueText.charAt(i++);
+      if (c != '\\') {
+        sb.append(c);
+        continue;
+      }
+      if (i == length) {
+        break;
+      }
+      c = valueText.charAt(i++);
+      switch (c) {
+        case 't' -> sb.append('\t');
+        case 'n' -> sb.append('\n');
+        case 'r' -> sb.append('\r');
+        case 'f' -> sb.append('\f');
+        case 'u' -> {
+          int code = parseHex(valueText, i);
+          if (code < 0) {
+            sb.append('\\').append('u');
+          } else {
+            sb.append((char) code);
+            i += 4;
+          }
+        }
+        case '\r', '\n' -> {
+          if (c == '\r' && i < length && valueText.charAt(i) == '\n') {
+            i++;
+          }
+          while (i < length && isLineWhitespace(valueText.charAt(i))) {
+            i++;
+          }
+        }
+        default -> sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  private static int parseHex(String text, int start) {
+    if (start + 4 > text.length()) {
+      return -1;
+    }
+    int code = 0;
+    for (int i = start; i < start + 4; i++) {
+      int digit = Character.digit(text.charAt(i), 16);
+      if (digit < 0) {
+        return -1;
+      }
+      code = (code << 4) | digit;
+    }
+    return code;
+  }
+
+  private static boolean isLineWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\f';
+  }
+
   public static String getName(SimpleProperty element) {
     return getKey(element);
   }
@@ -0,0 +1,15 @@
+// Copyright 2000-2025 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+
+package org.intellij.sdk.language
+
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.startup.ProjectActivity
+
+/**
+ * Schedules the warm-up of the Simple caches when a project is opened, see [SimpleWarmUpService].
+ */
+internal class SimpleWarmUpActivity : ProjectActivity {
+  override suspend fun execute(project: Project) {
+    SimpleWarmUpService.getInstance(project).scheduleWarmUp()
+  }
+}
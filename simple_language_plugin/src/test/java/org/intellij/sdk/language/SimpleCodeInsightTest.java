@@ -4,19 +4,66 @@ package org.intellij.sdk.language;
 
 import com.intellij.application.options.CodeStyle;
 import com.intellij.codeInsight.completion.CompletionType;
+import com.intellij.codeInsight.daemon.GutterMark;
+import com.intellij.codeInsight.daemon.LineMarkerInfo;
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
 import com.intellij.codeInsight.documentation.DocumentationManager;
 import com.intellij.codeInsight.generation.actions.CommentByLineCommentAction;
+import com.intellij.codeInspection.CommonProblemDescriptor;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ex.GlobalInspectionToolWrapper;
+import com.intellij.ide.util.treeView.AbstractTreeNode;
+import com.intellij.ide.util.treeView.smartTree.SmartTreeStructure;
+import com.intellij.ide.util.treeView.smartTree.TreeElement;
+import com.intellij.lang.ASTNode;
 import com.intellij.lang.documentation.DocumentationProvider;
+import com.intellij.lang.folding.FoldingDescriptor;
+import com.intellij.navigation.GotoRelatedItem;
+import com.intellij.navigation.NavigationItem;
 import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.util.Couple;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.newvfs.persistent.PersistentFSConstants;
+import com.intellij.psi.PsiDocumentManager;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiReference;
+import com.intellij.psi.ResolveResult;
+import com.intellij.psi.SingleRootFileViewProvider;
 import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.psi.impl.BlockSupportImpl;
+import com.intellij.psi.impl.source.PsiFileImpl;
+import com.intellij.psi.impl.source.resolve.ResolveCache;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.DumbModeTestUtils;
 import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
 import com.intellij.usageView.UsageInfo;
+import com.intellij.util.CommonProcessors;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.FileContentImpl;
+import com.intellij.util.indexing.FindSymbolParameters;
 import org.intellij.sdk.language.psi.SimpleProperty;
+import org.intellij.sdk.language.psi.SimplePropertyStub;
+import org.intellij.sdk.language.psi.SimpleTypes;
+import org.intellij.sdk.language.psi.impl.SimplePsiImplUtil;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class SimpleCodeInsightTest extends LightJavaCodeInsightFixtureTestCase {
 
@@ -36,11 +83,39 @@ public class SimpleCodeInsightTest extends LightJavaCodeInsightFixtureTestCase {
     assertSameElements(lookupElementStrings, "key with spaces", "language", "message", "tab", "website");
   }
 
+  public void testNamespaceCompletion() {
+    myFixture.configureByFiles("CompleteNamespaceTestData.java", "NamespaceTestData.simple");
+    myFixture.complete(CompletionType.BASIC);
+    List<String> lookupElementStrings = myFixture.getLookupElementStrings();
+    assertNotNull(lookupElementStrings);
+    assertSameElements(lookupElementStrings, "app.title", "app.menu");
+  }
+
+  public void testNamespaceIndex() {
+    myFixture.copyFileToProject("NamespaceTestData.simple");
+    List<String> keys = ContainerUtil.map(findPropertiesInNamespace("app.menu"), SimpleProperty::getKey);
+    assertSameElements(keys, "app.menu.open", "app.menu.close");
+    assertSize(3, findPropertiesInNamespace("app"));
+    assertEmpty(findPropertiesInNamespace("application"));
+  }
+
+  private Collection<SimpleProperty> findPropertiesInNamespace(String namespace) {
+    return StubIndex.getElements(SimpleNamespaceIndex.KEY, namespace, getProject(),
+        GlobalSearchScope.allScope(getProject()), SimpleProperty.class);
+  }
+
   public void testAnnotator() {
     myFixture.configureByFiles("AnnotatorTestData.java", "DefaultTestData.simple");
     myFixture.checkHighlighting(false, false, false, true);
   }
 
+  public void testLineMarker() {
+    myFixture.configureByFiles("ReferenceTestData.java", "DefaultTestData.simple");
+    List<GutterMark> gutters = myFixture.findGuttersAtCaret();
+    assertSize(1, gutters);
+    assertEquals("Navigate to Simple language property", gutters.get(0).getTooltipText());
+  }
+
   public void testFormatter() {
     myFixture.configureByFile("FormatterTestData.simple");
     CodeStyle.getLanguageSettings(myFixture.getFile()).SPACE_AROUND_ASSIGNMENT_OPERATORS = true;
@@ -70,6 +145,59 @@ public class SimpleCodeInsightTest extends LightJavaCodeInsightFixtureTestCase {
     assertEquals(1, usageInfos.size());
   }
 
+  public void testUsageIndex() throws IOException {
+    VirtualFile file = myFixture.copyFileToProject("FindUsagesTestData.java");
+    String text = VfsUtilCore.loadText(file);
+
+    Map<String, List<Integer>> offsets =
+        new SimpleUsageIndex().getIndexer().map(FileContentImpl.createByFile(file, getProject()));
+    assertSameElements(offsets.keySet(), "key with spaces");
+    assertEquals(List.of(text.indexOf("\"simple:")), offsets.get("key with spaces"));
+  }
+
+  public void testUsageLineMarker() {
+    myFixture.configureByFiles("FindUsagesTestData.simple", "FindUsagesTestData.java");
+    List<GutterMark> gutters = myFixture.findGuttersAtCaret();
+    assertSize(1, gutters);
+    assertEquals("Navigate to Simple language property usages", gutters.get(0).getTooltipText());
+  }
+
+  public void testUnusedPropertyInspection() {
+    myFixture.testInspection("unusedProperty", new GlobalInspectionToolWrapper(new SimpleUnusedPropertyInspection()));
+  }
+
+  public void testDeletePropertyQuickFix() {
+    myFixture.configureByText(SimpleFileType.INSTANCE, "a = 1\nb = 2\n\nc = 3\n");
+    SimpleDeletePropertyQuickFix fix = new SimpleDeletePropertyQuickFix();
+    ProblemDescriptor descriptor = createDeletePropertyProblem(fix, "b");
+    WriteCommandAction.runWriteCommandAction(getProject(), () -> fix.applyFix(getProject(), descriptor));
+    myFixture.checkResult("a = 1\n\nc = 3\n");
+  }
+
+  public void testDeletePropertyBatchQuickFix() {
+    myFixture.configureByText(SimpleFileType.INSTANCE, "a = 1\nb = 2\nc = 3\n");
+    SimpleDeletePropertyQuickFix fix = new SimpleDeletePropertyQuickFix();
+    CommonProblemDescriptor[] descriptors = {
+        createDeletePropertyProblem(fix, "a"),
+        createDeletePropertyProblem(fix, "c")
+    };
+    fix.applyFix(getProject(), descriptors, new ArrayList<>(), null);
+    myFixture.checkResult("b = 2\n");
+  }
+
+  private ProblemDescriptor createDeletePropertyProblem(SimpleDeletePropertyQuickFix fix, String key) {
+    Collection<SimpleProperty> properties = PsiTreeUtil.findChildrenOfType(myFixture.getFile(), SimpleProperty.class);
+    SimpleProperty property = ContainerUtil.find(properties, p -> key.equals(p.getKey()));
+    assertNotNull(property);
+    return InspectionManager.getInstance(getProject())
+        .createProblemDescriptor(property, "Unused property", fix, ProblemHighlightType.LIKE_UNUSED_SYMBOL, true);
+  }
+
+  public void testDuplicateKeyInspection() {
+    myFixture.enableInspections(new SimpleDuplicateKeyInspection());
+    myFixture.testHighlighting("DuplicateKeyTestData.simple");
+  }
+
   public void testCommenter() {
     myFixture.configureByText(SimpleFileType.INSTANCE, "<caret>website = https://en.wikipedia.org/");
     CommentByLineCommentAction commentAction = new CommentByLineCommentAction();
@@ -86,6 +214,351 @@ public class SimpleCodeInsightTest extends LightJavaCodeInsightFixtureTestCase {
     assertEquals("https://en.wikipedia.org/", resolvedSimpleProperty.getValue());
   }
 
+  public void testReferenceRange() {
+    myFixture.configureByText("Test.java",
+        "class Test { String[] s = {\"simple:website\", \"website\", \"simple:website\" + 1, \"simple:\"}; }");
+    List<PsiLiteralExpression> literals =
+        new ArrayList<>(PsiTreeUtil.findChildrenOfType(myFixture.getFile(), PsiLiteralExpression.class));
+    PsiReference reference = ContainerUtil.getOnlyItem(List.of(literals.get(0).getReferences()));
+    assertNotNull(reference);
+    assertEquals("website", reference.getRangeInElement().substring(literals.get(0).getText()));
+    assertSame(reference, literals.get(0).getReferences()[0]);
+    assertEmpty(literals.get(1).getReferences());
+    assertEmpty(literals.get(3).getReferences());
+    assertSize(1, literals.get(4).getReferences());
+  }
+
+  public void testEscapedReferenceKey() {
+    myFixture.copyFileToProject("DefaultTestData.simple");
+    myFixture.configureByText("Test.java", "class Test { String s = \"simple:web\\163ite\"; }");
+    PsiLiteralExpression literal = PsiTreeUtil.findChildOfType(myFixture.getFile(), PsiLiteralExpression.class);
+    assertNotNull(literal);
+    PsiReference reference = assertOneElement(literal.getReferences());
+    assertEquals("web\\163ite", reference.getRangeInElement().substring(literal.getText()));
+    assertEquals("website", assertInstanceOf(reference.resolve(), SimpleProperty.class).getKey());
+    assertSize(1, SimpleUtil.findReferences(getProject(), "website", GlobalSearchScope.projectScope(getProject())));
+  }
+
+  public void testResolveCache() {
+    myFixture.copyFileToProject("DefaultTestData.simple");
+    myFixture.configureByText("Test.java",
+        "class Test { String a = \"simple:website\", b = \"simple:website\", c = \"simple:language\"; }");
+    AtomicInteger resolveCount = new AtomicInteger();
+    ResolveCache.PolyVariantResolver<SimpleReference> countingResolver = (reference, incompleteCode) -> {
+      resolveCount.incrementAndGet();
+      return SimpleReference.RESOLVER.resolve(reference, incompleteCode);
+    };
+
+    // each literal is resolved once, however often its reference is asked for
+    myFixture.doHighlighting();
+    resolveLiterals(countingResolver);
+    resolveLiterals(countingResolver);
+    assertEquals(3, resolveCount.get());
+
+    WriteCommandAction.runWriteCommandAction(getProject(), () ->
+        myFixture.getEditor().getDocument().insertString(0, "// changed\n"));
+    PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+    myFixture.doHighlighting();
+    resolveLiterals(countingResolver);
+    resolveLiterals(countingResolver);
+    assertEquals(6, resolveCount.get());
+  }
+
+  /**
+   * Resolves the reference of every literal through {@link ResolveCache}, as {@link SimpleReference#multiResolve} does.
+   */
+  private void resolveLiterals(ResolveCache.PolyVariantResolver<SimpleReference> resolver) {
+    for (PsiLiteralExpression literal :
+        PsiTreeUtil.findChildrenOfType(myFixture.getFile(), PsiLiteralExpression.class)) {
+      SimpleReference reference = assertInstanceOf(assertOneElement(literal.getReferences()), SimpleReference.class);
+      ResolveResult[] results =
+          ResolveCache.getInstance(getProject()).resolveWithCaching(reference, resolver, false, false);
+      assertInstanceOf(assertOneElement(results).getElement(), SimpleProperty.class);
+    }
+  }
+
+  public void testStubBasedKeyLookup() {
+    myFixture.copyFileToProject("DefaultTestData.simple");
+    SimpleProperty property = ContainerUtil.getOnlyItem(SimpleUtil.findProperties(getProject(), "key with spaces"));
+    assertNotNull(property);
+    assertEquals("key with spaces", property.getKey());
+    SimplePropertyStub stub = property.getStub();
+    assertNotNull(stub);
+    assertEquals("key\\ with\\ spaces", stub.getRawKey());
+    assertFalse(((PsiFileImpl) property.getContainingFile()).isContentsLoaded());
+  }
+
+  public void testUnescapedKey() {
+    String key = "website";
+    assertSame(key, SimplePsiImplUtil.unescapeKey(key));
+    assertEquals("key with spaces", SimplePsiImplUtil.unescapeKey("key\\ with\\ spaces"));
+    assertEquals("a\\ b", SimplePsiImplUtil.unescapeKey("a\\\\ b"));
+
+    myFixture.configureByText(SimpleFileType.INSTANCE, "key\\ with\\ spaces = value");
+    SimpleProperty property = PsiTreeUtil.findChildOfType(myFixture.getFile(), SimpleProperty.class);
+    assertNotNull(property);
+    assertEquals("key with spaces", property.getKey());
+    WriteCommandAction.runWriteCommandAction(getProject(), () -> property.setName("renamed\\ key"));
+    assertEquals("renamed key", property.getKey());
+  }
+
+  public void testDecodedValue() {
+    String value = "https://en.wikipedia.org/";
+    assertSame(value, SimplePsiImplUtil.decodeValue(value));
+    assertEquals("Welcome to Wikipedia!", SimplePsiImplUtil.decodeValue("Welcome to \\\n          Wikipedia!"));
+    assertEquals("Welcome to Wikipedia!", SimplePsiImplUtil.decodeValue("Welcome to \\\r\n\tWikipedia!"));
+    assertEquals("\t\u00e9 a=b", SimplePsiImplUtil.decodeValue("\\u0009\\u00E9 a\\=b"));
+    assertEquals("\\uZZ \\u12", SimplePsiImplUtil.decodeValue("\\uZZ \\u12"));
+
+    myFixture.configureByFile("DefaultTestData.simple");
+    SimpleProperty message = ContainerUtil.getOnlyItem(SimpleUtil.findProperties(getProject(), "message"));
+    assertNotNull(message);
+    assertEquals("Welcome to Wikipedia!", message.getDecodedValue());
+  }
+
+  public void testGotoSymbol() {
+    myFixture.copyFileToProject("DefaultTestData.simple");
+    SimpleChooseByNameContributor contributor = new SimpleChooseByNameContributor();
+
+    List<String> names = new ArrayList<>();
+    contributor.processNames(new CommonProcessors.CollectProcessor<>(names),
+        GlobalSearchScope.projectScope(getProject()), null);
+    // the index may also report stale keys of files removed by other tests
+    assertContainsElements(names, "website", "language", "message", "key with spaces", "tab");
+
+    List<NavigationItem> items = new ArrayList<>();
+    contributor.processElementsWithName("website", new CommonProcessors.CollectProcessor<>(items),
+        FindSymbolParameters.simple(getProject(), false));
+    assertSize(1, items);
+    assertEquals("website", assertInstanceOf(items.get(0), SimpleProperty.class).getKey());
+  }
+
+  public void testIncrementalReparse() {
+    PsiFileImpl file = (PsiFileImpl) myFixture.configureByFile("DefaultTestData.simple");
+    String text = file.getText();
+
+    Couple<ASTNode> valueRoots = findReparseableRoots(file, text.indexOf("English"), "English", "French");
+    assertNotNull(valueRoots);
+    assertEquals(SimpleTypes.VALUE, valueRoots.first.getElementType());
+    assertEquals("French", valueRoots.second.getText());
+
+    Couple<ASTNode> keyRoots = findReparseableRoots(file, text.indexOf("language"), "language", "lang");
+    assertNotNull(keyRoots);
+    assertEquals(SimpleTypes.KEY, keyRoots.first.getElementType());
+
+    // a separator typed into a key changes the token structure, so the file is reparsed
+    assertNull(findReparseableRoots(file, text.indexOf("language"), "language", "lang=uage"));
+  }
+
+  private static Couple<ASTNode> findReparseableRoots(PsiFileImpl file, int offset, String oldText, String newText) {
+    TextRange range = TextRange.from(offset, oldText.length());
+    String newFileText = range.replace(file.getText(), newText);
+    return BlockSupportImpl.findReparseableRoots(file, file.getNode(), range, newFileText);
+  }
+
+  public void testLargeFileKeyIndexer() throws IOException {
+    VirtualFile file = myFixture.copyFileToProject("DefaultTestData.simple");
+    String text = VfsUtilCore.loadText(file);
+
+    Map<String, Integer> offsets =
+        new SimpleLargeFileKeyIndex().getIndexer().map(FileContentImpl.createByFile(file, getProject()));
+    assertSameElements(offsets.keySet(), "website", "language", "message", "key with spaces", "tab");
+    assertEquals(text.indexOf("key\\ with"), offsets.get("key with spaces").intValue());
+
+    SimpleLargeFileProperty property = new SimpleLargeFileProperty(getProject(), file, "website", offsets.get("website"));
+    assertEquals("website", property.getName());
+    assertEquals(text.indexOf("website"), property.getTextOffset());
+    assertTrue(property.canNavigate());
+  }
+
+  public void testValueSearch() throws IOException {
+    VirtualFile file = myFixture.copyFileToProject("DefaultTestData.simple");
+    Map<Integer, Void> trigrams =
+        new SimpleTrigramIndex().getIndexer().map(FileContentImpl.createByFile(file, getProject()));
+    assertTrue(trigrams.keySet().containsAll(SimpleTrigramIndex.getTrigrams("WIKIPEDIA")));
+    assertFalse(trigrams.keySet().containsAll(SimpleTrigramIndex.getTrigrams("xyzzy")));
+
+    assertSameElements(findKeysByValue("WIKIPEDIA"), "website", "message");
+    assertSameElements(findKeysByValue("to Wikipedia"), "message");
+    assertEmpty(findKeysByValue("en"));
+    assertEmpty(findKeysByValue("xyzzy"));
+  }
+
+  private List<String> findKeysByValue(String query) {
+    List<String> keys = new ArrayList<>();
+    SimpleValueSearch.processMatches(getProject(), query, GlobalSearchScope.allScope(getProject()),
+        match -> keys.add(match.key()));
+    return keys;
+  }
+
+  public void testSearchEverywhere() {
+    myFixture.copyFileToProject("NamespaceTestData.simple");
+
+    assertOrderedEquals(searchEverywhere("menu.op"), "app.menu.open");
+    assertSameElements(searchEverywhere("app.menu"), "app.menu.open", "app.menu.close");
+    assertSameElements(searchEverywhere("open"), "app.menu.open");
+    assertSameElements(searchEverywhere("simple appl"), "application");
+    assertSameElements(searchEverywhere("SiAp"), "application");
+    assertSameElements(searchEverywhere("SimpApp"), "application");
+    assertTrue(SimpleTrigramIndex.getFragmentTrigrams("SimpApp").containsAll(SimpleTrigramIndex.getTrigrams("App")));
+    assertEmpty(SimpleTrigramIndex.getFragmentTrigrams("SiAp"));
+    assertEmpty(searchEverywhere("xyzzy"));
+
+    List<String> firstPage = new ArrayList<>();
+    SimpleSearchEverywhereContributor.processMatches(getProject(), "app", GlobalSearchScope.allScope(getProject()),
+        descriptor -> firstPage.add(descriptor.getItem().key()) && firstPage.size() < 2);
+    assertSize(2, firstPage);
+  }
+
+  private List<String> searchEverywhere(String pattern) {
+    List<String> keys = new ArrayList<>();
+    SimpleSearchEverywhereContributor.processMatches(getProject(), pattern, GlobalSearchScope.allScope(getProject()),
+        descriptor -> keys.add(descriptor.getItem().key()));
+    return keys;
+  }
+
+  public void testLargeFileKeyEndToEnd() {
+    StringBuilder text = new StringBuilder("large.key = large value\n");
+    while (text.length() <= PersistentFSConstants.getMaxIntellisenseFileSize()) {
+      text.append("# filler comment to exceed the size limit of code insight ----------------------------\n");
+    }
+    VirtualFile largeFile = myFixture.addFileToProject("Large.simple", text.toString()).getVirtualFile();
+    assertTrue(SingleRootFileViewProvider.isTooLargeForIntelligence(largeFile));
+
+    myFixture.configureByText("Test.java", "class Test { String s = \"simple:large.key<caret>\"; }");
+    PsiReference reference = myFixture.getFile().findReferenceAt(myFixture.getCaretOffset());
+    assertNotNull(reference);
+    SimpleLargeFileProperty property = assertInstanceOf(reference.resolve(), SimpleLargeFileProperty.class);
+    assertEquals("large.key", property.getName());
+    assertEquals(largeFile, property.getFile());
+    assertEquals(0, property.getTextOffset());
+
+    GutterMark gutter = assertOneElement(myFixture.findGuttersAtCaret());
+    LineMarkerInfo<?> lineMarker = ((LineMarkerInfo.LineMarkerGutterIconRenderer<?>) gutter).getLineMarkerInfo();
+    GotoRelatedItem target =
+        assertOneElement(((RelatedItemLineMarkerInfo<?>) lineMarker).createGotoRelatedItems());
+    assertEquals(property, target.getElement());
+
+    List<NavigationItem> items = new ArrayList<>();
+    new SimpleChooseByNameContributor().processElementsWithName("large.key",
+        new CommonProcessors.CollectProcessor<>(items), FindSymbolParameters.simple(getProject(), false));
+    assertEquals(property, assertOneElement(items));
+    assertTrue(property.canNavigate());
+
+    List<SimpleValueSearch.Match> matches = new ArrayList<>();
+    SimpleSearchEverywhereContributor.processMatches(getProject(), "large.key",
+        GlobalSearchScope.allScope(getProject()), descriptor -> matches.add(descriptor.getItem()));
+    assertEquals("large value", assertOneElement(matches).value());
+  }
+
+  public void testStructureViewFromStubs() {
+    VirtualFile file = myFixture.copyFileToProject("DefaultTestData.simple");
+    PsiFileImpl psiFile = (PsiFileImpl) PsiManager.getInstance(getProject()).findFile(file);
+    assertNotNull(psiFile);
+
+    TreeElement[] children = new SimpleStructureViewElement(psiFile).getChildren();
+    List<String> keys = ContainerUtil.map(children, child -> ((SimpleStructureViewElement) child).getAlphaSortKey());
+    assertOrderedEquals(keys, "website", "language", "message", "key with spaces", "tab");
+    assertFalse(psiFile.isContentsLoaded());
+  }
+
+  public void testNamespaceGrouping() {
+    PsiFile psiFile = myFixture.configureByText(SimpleFileType.INSTANCE,
+        "a.b.c.key = 1\na.x.key = 2\na.key = 3\nb = 4\n");
+    // only the top-level segments are created up front
+    TreeElement[] children = new SimpleStructureViewElement(psiFile).getChildren();
+    assertSize(2, children);
+    assertInstanceOf(children[0], SimpleNamespaceStructureViewElement.class);
+
+    SimpleStructureViewModel model = new SimpleStructureViewModel(myFixture.getEditor(), psiFile);
+    try {
+      SmartTreeStructure structure = new SmartTreeStructure(getProject(), model);
+      assertEquals("""
+                       a
+                        a.key
+                        b
+                         c
+                          a.b.c.key
+                        x
+                         a.x.key
+                       b
+                       """, printStructure(structure, structure.getRootElement(), 0));
+    }
+    finally {
+      model.dispose();
+    }
+  }
+
+  private static String printStructure(SmartTreeStructure structure, Object node, int depth) {
+    List<String> lines = new ArrayList<>();
+    for (Object child : structure.getChildElements(node)) {
+      Object value = ((AbstractTreeNode<?>) child).getValue();
+      String text = value instanceof SimpleNamespaceStructureViewElement namespace
+                    ? namespace.getPresentation().getPresentableText()
+                    : ((SimpleStructureViewElement) value).getAlphaSortKey();
+      lines.add(" ".repeat(depth) + text + "\n" + printStructure(structure, child, depth + 1));
+    }
+    Collections.sort(lines);
+    return String.join("", lines);
+  }
+
+  public void testDumbModeKeyTable() {
+    myFixture.configureByFile("DefaultTestData.simple");
+    VirtualFile simpleFile = myFixture.getFile().getVirtualFile();
+    String text = myFixture.getEditor().getDocument().getText();
+    PsiFile javaFile = myFixture.addFileToProject("Test.java",
+        "class Test { String a = \"simple:website\"; String b = \"simple:message\"; String c = \"simple:missing\"; }");
+
+    DumbModeTestUtils.runInDumbModeSynchronously(getProject(), () -> {
+      SimpleDumbModeKeyTable.Definition message =
+          SimpleDumbModeKeyTable.getInstance(getProject()).getDefinition("message");
+      assertNotNull(message);
+      assertEquals(simpleFile, message.file());
+      assertEquals(text.indexOf("message"), message.offset());
+
+      SimpleChooseByNameContributor contributor = new SimpleChooseByNameContributor();
+      List<String> names = new ArrayList<>();
+      contributor.processNames(new CommonProcessors.CollectProcessor<>(names),
+          GlobalSearchScope.projectScope(getProject()), null);
+      assertOrderedEquals(names, "website", "language", "message", "key with spaces", "tab");
+      List<NavigationItem> items = new ArrayList<>();
+      contributor.processElementsWithName("message", new CommonProcessors.CollectProcessor<>(items),
+          FindSymbolParameters.simple(getProject(), false));
+      SimpleLargeFileProperty property = assertInstanceOf(assertOneElement(items), SimpleLargeFileProperty.class);
+      assertEquals(text.indexOf("message"), property.getTextOffset());
+
+      Document javaDocument = PsiDocumentManager.getInstance(getProject()).getDocument(javaFile);
+      assertNotNull(javaDocument);
+      FoldingDescriptor[] descriptors = new SimpleFoldingBuilder().buildFoldRegions(javaFile, javaDocument, false);
+      assertOrderedEquals(ContainerUtil.map(descriptors, FoldingDescriptor::getPlaceholderText),
+          "https://en.wikipedia.org/", "Welcome to Wikipedia!");
+
+      WriteCommandAction.runWriteCommandAction(getProject(), () ->
+          FileDocumentManager.getInstance().getDocument(simpleFile).insertString(0, "page = index.html\n"));
+      myFixture.configureByFile("CompleteTestData.java");
+      myFixture.complete(CompletionType.BASIC);
+      assertSameElements(myFixture.getLookupElementStrings(),
+          "page", "website", "language", "message", "key with spaces", "tab");
+    });
+  }
+
+  public void testWarmUp() {
+    myFixture.configureByFiles("ReferenceTestData.java", "DefaultTestData.simple");
+    SimpleWarmUpService service = SimpleWarmUpService.getInstance(getProject());
+    assertEquals(1, service.warmUp());
+    assertEquals(1, service.getWarmUpKeyCount());
+    assertTrue(service.getWarmUpMillis() >= 0);
+    // the placeholder is read from the stub
+    VirtualFile simpleFile = myFixture.findFileInTempDir("DefaultTestData.simple");
+    assertFalse(((PsiFileImpl) PsiManager.getInstance(getProject()).findFile(simpleFile)).isContentsLoaded());
+
+    // a quick folding pass only reads cached placeholders
+    PsiFile javaFile = myFixture.getFile();
+    Document document = myFixture.getEditor().getDocument();
+    FoldingDescriptor[] descriptors = new SimpleFoldingBuilder().buildFoldRegions(javaFile, document, true);
+    assertEquals("https://en.wikipedia.org/", assertOneElement(descriptors).getPlaceholderText());
+  }
+
   public void testDocumentation() {
     myFixture.configureByFiles("DocumentationTestData.java", "DocumentationTestData.simple");
     final PsiElement originalElement = myFixture.getElementAtCaret();
@@ -2,10 +2,35 @@
 
 package org.intellij.sdk.language;
 
+import com.intellij.platform.diagnostic.telemetry.Scope;
+import com.intellij.platform.diagnostic.telemetry.TelemetryManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.testFramework.ParsingTestCase;
+import com.intellij.tools.ide.metrics.benchmark.Benchmark;
+import com.intellij.tools.ide.metrics.collector.OpenTelemetryMeterCollector;
+import com.intellij.tools.ide.metrics.collector.metrics.MetricsSelectionStrategy;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongGauge;
+import org.intellij.sdk.language.psi.SimpleProperty;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class SimpleParsingTest extends ParsingTestCase {
 
+  private static final int KB = 1024;
+  private static final int MB = 1024 * KB;
+
+  /**
+   * Upper bound of the allocations while parsing, deliberately generous so that only real regressions fail.
+   * Timings are published as benchmark metrics and not asserted.
+   */
+  private static final long MAX_BYTES_PER_PROPERTY = 16 * KB;
+
+  private static final Meter METER = TelemetryManager.getInstance().getMeter(new Scope("simple.parsing", null));
+
   public SimpleParsingTest() {
     super("", "simple", new SimpleParserDefinition());
   }
@@ -14,6 +39,69 @@ public class SimpleParsingTest extends ParsingTestCase {
     doTest(true);
   }
 
+  public void testParsingPerformance1KB() {
+    doPerformanceTest(SimpleCorpus.SHORT_PROPERTIES, KB);
+  }
+
+  public void testParsingPerformance1MB() {
+    doPerformanceTest(SimpleCorpus.SHORT_PROPERTIES, MB);
+    doPerformanceTest(SimpleCorpus.MULTI_LINE_VALUES, MB);
+  }
+
+  public void testParsingPerformanceWithErrorRecovery1MB() {
+    doPerformanceTest(SimpleCorpus.BROKEN_PROPERTIES, MB);
+  }
+
+  /**
+   * Needs a large heap and raised {@code idea.max.content.load.filesize} and {@code idea.max.intellisense.filesize}
+   * limits, so the build excludes it unless it is run with {@code -PlargeParsingTest}.
+   */
+  public void testParsingPerformance50MB() {
+    doPerformanceTest(SimpleCorpus.SHORT_PROPERTIES, 50 * MB);
+  }
+
+  /**
+   * Parses the generated text into a complete PSI tree with the platform benchmark framework. The time per MB and
+   * the allocated bytes per property of the last attempt are published as benchmark metrics, then the allocations
+   * are checked against {@link #MAX_BYTES_PER_PROPERTY}.
+   */
+  private void doPerformanceTest(SimpleCorpus corpus, int length) {
+    String text = corpus.generate(length);
+    String metricPrefix = "simple.parsing." + corpus.name().toLowerCase(Locale.ROOT) + "." + length / KB + "kb.";
+    AtomicLong microsPerMB = new AtomicLong();
+    AtomicLong bytesPerProperty = new AtomicLong();
+
+    try (ObservableLongGauge ignoredTime = METER.gaugeBuilder(metricPrefix + "microsPerMB").ofLongs()
+             .buildWithCallback(measurement -> measurement.record(microsPerMB.get()));
+         ObservableLongGauge ignoredAllocation = METER.gaugeBuilder(metricPrefix + "bytesPerProperty").ofLongs()
+             .buildWithCallback(measurement -> measurement.record(bytesPerProperty.get()))) {
+      Benchmark.newBenchmark("Simple parsing of " + corpus + ", " + length + " chars", () -> {
+            long allocatedBefore = getAllocatedBytes();
+            long start = System.nanoTime();
+            PsiFile file = createPsiFile("performance", text);
+            ensureParsed(file);
+            long nanos = System.nanoTime() - start;
+            long allocatedBytes = getAllocatedBytes() - allocatedBefore;
+
+            int properties = PsiTreeUtil.getChildrenOfTypeAsList(file, SimpleProperty.class).size();
+            assertTrue(properties > 0);
+            microsPerMB.set(nanos * MB / length / 1000);
+            bytesPerProperty.set(allocatedBytes / properties);
+          })
+          .attempts(5)
+          .withTelemetryMeters(new OpenTelemetryMeterCollector(MetricsSelectionStrategy.LATEST,
+              meter -> meter.getKey().startsWith(metricPrefix)))
+          .start();
+    }
+
+    assertTrue(corpus + ": " + bytesPerProperty.get() + " bytes/property",
+        bytesPerProperty.get() <= MAX_BYTES_PER_PROPERTY);
+  }
+
+  private static long getAllocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+  }
+
   /**
    * @return path to test data file directory relative to root of this module.
    */
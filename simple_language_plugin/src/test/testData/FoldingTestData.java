@@ -6,6 +6,6 @@ public class Test {
         </fold>System.out.println("<fold text='This is the value that could be looked up with the key \"key with spaces\".'>simple:key with spaces</fold>");<fold text=' }'>
     }</fold>
     public static void main2(String[] args)<fold text=' { '> {
-        </fold>System.out.println("<fold text='Welcome to \n          Wikipedia!'>simple:message</fold>");<fold text=' }'>
+        </fold>System.out.println("<fold text='Welcome to Wikipedia!'>simple:message</fold>");<fold text=' }'>
     }</fold>
 }
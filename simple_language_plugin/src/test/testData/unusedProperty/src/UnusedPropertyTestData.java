@@ -0,0 +1,6 @@
+public class Test {
+  public static void main(String[] args) {
+    System.out.println("simple:website");
+    System.out.println("simple:key with spaces");
+  }
+}